@@ -0,0 +1,35 @@
+package com.chessgamepro.Benchmarks;
+
+import com.chessgamepro.FenUtility.FenUtility;
+
+/**
+ * Class holding the standard set of positions every benchmark is run on,
+ * so numbers taken before and after a change are comparable
+ */
+public final class BenchmarkPositions {
+
+    // Constants representing names of positions, used as the @Param values of benchmarks
+    public static final String START = "start";
+    public static final String MIDDLE_GAME = "position2";
+    public static final String ROOK_ENDGAME = "rookEndgame";
+    public static final String PAWN_ENDGAME = "pawnEndgame";
+    public static final String QUEEN_ENDGAME = "queenEndgame";
+
+    /**
+     * Method for getting the fen of a named position
+     *
+     * @param name the name of position
+     * @return the fen of position
+     */
+    public static String getFen(String name){
+
+        switch (name){
+            case START -> {return FenUtility.startFen;}
+            case MIDDLE_GAME -> {return FenUtility.position2;}
+            case ROOK_ENDGAME -> {return "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";}
+            case PAWN_ENDGAME -> {return "8/5pk1/6p1/7p/7P/6P1/5PK1/8 w - - 0 1";}
+            case QUEEN_ENDGAME -> {return "6k1/5p2/6p1/8/7p/8/6PP/3Q2K1 w - - 0 1";}
+            default -> throw new IllegalArgumentException("Unknown benchmark position: " + name);
+        }
+    }
+}
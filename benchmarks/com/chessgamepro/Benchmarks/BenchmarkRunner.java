@@ -0,0 +1,24 @@
+package com.chessgamepro.Benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Class that runs the benchmarks with the gc profiler, so every result
+ * holds both ops/s and the allocation rate. The optional argument is a
+ * regular expression selecting benchmarks, for example 'getColorMoves'.
+ */
+public class BenchmarkRunner {
+    public static void main(String...args) throws RunnerException {
+
+        Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : BenchmarkRunner.class.getPackageName() + ".*")
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,61 @@
+package com.chessgamepro.Benchmarks;
+
+import com.chessgamepro.BitBoard.BitBoard;
+import com.chessgamepro.BitBoard.MoveGenerator;
+import com.chessgamepro.ChessAI.ChessAI;
+import com.chessgamepro.FenUtility.FenUtility;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the engine core, legal move generation, fen parsing and
+ * evaluation. The fixed depth search is in 'SearchBenchmark', as it needs
+ * setup before every call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+    @Param({
+            BenchmarkPositions.START,
+            BenchmarkPositions.MIDDLE_GAME,
+            BenchmarkPositions.ROOK_ENDGAME,
+            BenchmarkPositions.PAWN_ENDGAME,
+            BenchmarkPositions.QUEEN_ENDGAME
+    })
+    public String position;
+
+    private String fen;
+    private BitBoard bitBoard;
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+    @Setup(Level.Trial)
+    public void setUp(){
+
+        fen = BenchmarkPositions.getFen(position);
+        bitBoard = new BitBoard();
+        FenUtility.parseFen(fen, bitBoard);
+    }
+
+    @Benchmark
+    public int generateLegalMoves(){
+        return MoveGenerator.generateLegalMoves(bitBoard, bitBoard.getSideToMove(), moves);
+    }
+
+    @Benchmark
+    public BitBoard parseFen(){
+        FenUtility.parseFen(fen, bitBoard);
+
+        return bitBoard;
+    }
+
+    @Benchmark
+    public int evaluateBoard(){
+        return ChessAI.evaluateBoard(bitBoard);
+    }
+}
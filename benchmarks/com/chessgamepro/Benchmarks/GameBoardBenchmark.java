@@ -0,0 +1,91 @@
+package com.chessgamepro.Benchmarks;
+
+import com.chessgamepro.BitBoard.BitBoard;
+import com.chessgamepro.ChessPieces.PieceColor;
+import com.chessgamepro.ChessPieces.PieceType;
+import com.chessgamepro.FenUtility.FenData;
+import com.chessgamepro.FenUtility.FenUtility;
+import com.chessgamepro.GameBoard.Coordinate;
+import com.chessgamepro.GameBoard.GameBoard;
+import com.chessgamepro.GameBoard.Move;
+import com.chessgamepro.GameBoard.MoveHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the object based board used by the GUI client, move
+ * generation, making and undoing moves, copying and check detection
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBoardBenchmark {
+
+    @Param({
+            BenchmarkPositions.START,
+            BenchmarkPositions.MIDDLE_GAME,
+            BenchmarkPositions.ROOK_ENDGAME,
+            BenchmarkPositions.PAWN_ENDGAME,
+            BenchmarkPositions.QUEEN_ENDGAME
+    })
+    public String position;
+
+    private String fen;
+    private GameBoard gameBoard;
+    private Move move;
+    private Coordinate[] kingSquares;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+
+        fen = BenchmarkPositions.getFen(position);
+        gameBoard = new GameBoard(fen);
+
+        List<Move> legalMoves = MoveHelper.getColorMoves(PieceColor.WHITE, gameBoard, true, true);
+        move = legalMoves.get(legalMoves.size() / 2);
+
+        // The White King and the squares beside it, as checked before castling
+        int kingSquare = Long.numberOfTrailingZeros(gameBoard.getBitBoard().getPieceBitBoard(PieceType.KING, PieceColor.WHITE));
+        int row = BitBoard.getRow(kingSquare);
+        int column = BitBoard.getColumn(kingSquare);
+
+        kingSquares = new Coordinate[]{
+                new Coordinate(row, column),
+                new Coordinate(row, Math.max(column - 1, 0)),
+                new Coordinate(row, Math.min(column + 1, GameBoard.COLUM_COUNT - 1))
+        };
+    }
+
+    @Benchmark
+    public List<Move> getColorMoves(){
+        return MoveHelper.getColorMoves(PieceColor.WHITE, gameBoard, true, true);
+    }
+
+    @Benchmark
+    public GameBoard makeUndoMove(){
+        gameBoard.makeMove(move);
+        gameBoard.undoMove();
+
+        return gameBoard;
+    }
+
+    @Benchmark
+    public GameBoard getCopy(){
+        return gameBoard.getCopy();
+    }
+
+    @Benchmark
+    public boolean areSquaresInCheck(){
+        return gameBoard.areSquaresInCheck(PieceColor.BLACK, kingSquares);
+    }
+
+    @Benchmark
+    public FenData getDataFromFen(){
+        return FenUtility.getDataFromFen(fen);
+    }
+}
@@ -0,0 +1,94 @@
+package com.chessgamepro.Benchmarks;
+
+import com.chessgamepro.BitBoard.BitBoard;
+import com.chessgamepro.ChessAI.ChessAI;
+import com.chessgamepro.ChessAI.ReplacementPolicy;
+import com.chessgamepro.ChessAI.TimeManager;
+import com.chessgamepro.ChessAI.TranspositionTable;
+import com.chessgamepro.FenUtility.FenUtility;
+
+/**
+ * Benchmark of the Lazy SMP search, every position is searched to a fixed
+ * depth with 1, 2, 4 and more threads up to the maximum. Reports the time
+ * to depth, the speedup over one thread and the nodes per second, in total
+ * and per thread. It runs without JMH, the arguments being
+ * '[depth] [max threads]'.
+ */
+public class ParallelSearchBenchmark {
+
+    // Constants describing the default settings of benchmark
+    private static final int DEFAULT_SEARCH_DEPTH = 12;
+    private static final int DEFAULT_MAX_THREAD_COUNT = 8;
+    private static final int SEARCH_HASH_MEGABYTES = 64;
+
+    private static final String[] POSITIONS = {
+            BenchmarkPositions.START,
+            BenchmarkPositions.MIDDLE_GAME,
+            BenchmarkPositions.ROOK_ENDGAME,
+            BenchmarkPositions.QUEEN_ENDGAME
+    };
+
+    public static void main(String...args){
+
+        int depth = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SEARCH_DEPTH;
+        int maxThreadCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_THREAD_COUNT;
+
+        TranspositionTable transpositionTable =
+                new TranspositionTable(SEARCH_HASH_MEGABYTES, ReplacementPolicy.AGED_DEPTH_PREFERRED);
+
+        // Every measured search is run once first, so the JIT has compiled the search
+        // before the single thread row, the baseline of every speedup, is timed
+        for(int threadCount = 1; threadCount <= maxThreadCount; threadCount *= 2){
+            for(String position : POSITIONS){
+                search(position, depth, threadCount, transpositionTable);
+            }
+        }
+
+        System.out.printf("%-8s %12s %8s %14s %12s %18s%n",
+                "threads", "time (ms)", "speedup", "nodes", "nps", "nps per thread");
+
+        long singleThreadMillis = 0;
+
+        for(int threadCount = 1; threadCount <= maxThreadCount; threadCount *= 2){
+            long elapsedMillis = 0;
+            long nodeCount = 0;
+
+            for(String position : POSITIONS){
+                long startTime = System.nanoTime();
+                nodeCount += search(position, depth, threadCount, transpositionTable);
+                elapsedMillis += (System.nanoTime() - startTime) / 1_000_000;
+            }
+
+            if(threadCount == 1){
+                singleThreadMillis = elapsedMillis;
+            }
+
+            long nodesPerSecond = nodeCount * 1000 / Math.max(1, elapsedMillis);
+
+            System.out.printf("%-8d %12d %8.2f %14d %12d %18d%n", threadCount, elapsedMillis,
+                    (double) singleThreadMillis / Math.max(1, elapsedMillis), nodeCount,
+                    nodesPerSecond, nodesPerSecond / threadCount);
+        }
+    }
+
+    /**
+     * Helper method for 'main' that searches a position to a fixed depth
+     * starting from an empty transposition table
+     *
+     * @return the number of nodes searched by all threads
+     */
+    private static long search(String position, int depth, int threadCount, TranspositionTable transpositionTable){
+
+        BitBoard bitBoard = new BitBoard();
+        FenUtility.parseFen(BenchmarkPositions.getFen(position), bitBoard);
+        transpositionTable.clear();
+
+        ChessAI chessAI = new ChessAI(new TimeManager(Long.MAX_VALUE), transpositionTable);
+        chessAI.setMaxDepth(depth);
+        chessAI.setThreadCount(threadCount);
+        chessAI.setSearchListener(statistics -> {});
+        chessAI.search(bitBoard);
+
+        return chessAI.getNodeCount();
+    }
+}
@@ -0,0 +1,65 @@
+package com.chessgamepro.Benchmarks;
+
+import com.chessgamepro.BitBoard.BitBoard;
+import com.chessgamepro.ChessAI.ChessAI;
+import com.chessgamepro.ChessAI.ReplacementPolicy;
+import com.chessgamepro.ChessAI.TimeManager;
+import com.chessgamepro.ChessAI.TranspositionTable;
+import com.chessgamepro.FenUtility.FenUtility;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of a fixed depth search started with an empty transposition
+ * table. The table is cleared before every call, which is kept apart from
+ * 'EngineBenchmark' so its short benchmarks only have setup per trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchBenchmark {
+
+    // Constants describing the fixed depth search
+    private static final int SEARCH_DEPTH = 4;
+    private static final int SEARCH_HASH_MEGABYTES = 16;
+
+    @Param({
+            BenchmarkPositions.START,
+            BenchmarkPositions.MIDDLE_GAME,
+            BenchmarkPositions.ROOK_ENDGAME,
+            BenchmarkPositions.PAWN_ENDGAME,
+            BenchmarkPositions.QUEEN_ENDGAME
+    })
+    public String position;
+
+    private BitBoard bitBoard;
+    private TranspositionTable transpositionTable;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+
+        bitBoard = new BitBoard();
+        FenUtility.parseFen(BenchmarkPositions.getFen(position), bitBoard);
+
+        transpositionTable = new TranspositionTable(SEARCH_HASH_MEGABYTES, ReplacementPolicy.AGED_DEPTH_PREFERRED);
+    }
+
+    // Every search starts from the same empty table, a search lasts long enough for setup per call
+    @Setup(Level.Invocation)
+    public void clearTranspositionTable(){
+        transpositionTable.clear();
+    }
+
+    @Benchmark
+    public int fixedDepthSearch(){
+
+        ChessAI chessAI = new ChessAI(new TimeManager(Long.MAX_VALUE), transpositionTable);
+        chessAI.setMaxDepth(SEARCH_DEPTH);
+
+        return chessAI.search(new BitBoard(bitBoard));
+    }
+}
@@ -0,0 +1,223 @@
+package com.chessgamepro.BitBoard;
+
+import com.chessgamepro.ChessPieces.PieceColor;
+
+/**
+ * Class holding precomputed attack sets of every square. Knight, King and
+ * Pawn attacks do not depend on other pieces and are looked up directly,
+ * Rook and Bishop attacks are looked up in the magic tables, single rays
+ * are walked until the first occupied square.
+ */
+public final class AttackTables {
+
+    // Ray directions as row and column steps, the first four are orthogonal
+    private static final int[] DIRECTION_ROW_STEPS = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] DIRECTION_COLUMN_STEPS = {0, 0, 1, -1, 1, -1, 1, -1};
+    public static final int DIRECTION_COUNT = 8;
+    public static final int ORTHOGONAL_DIRECTION_COUNT = 4;
+
+    private static final int[][] KNIGHT_STEPS = {
+            {2, 1}, {2, -1}, {-2, 1}, {-2, -1}, {1, 2}, {1, -2}, {-1, 2}, {-1, -2}
+    };
+
+    private static final long[] KNIGHT_ATTACKS = new long[BitBoard.SQUARE_COUNT];
+    private static final long[] KING_ATTACKS = new long[BitBoard.SQUARE_COUNT];
+
+    // Squares attacked by a Pawn of a color, indexed by color ordinal and square
+    private static final long[][] PAWN_ATTACKS = new long[2][BitBoard.SQUARE_COUNT];
+
+    // Squares of every ray in order of distance, indexed by square and direction
+    private static final int[][][] RAYS = new int[BitBoard.SQUARE_COUNT][DIRECTION_COUNT][];
+
+    // The same rays as sets of squares
+    private static final long[][] RAY_MASKS = new long[DIRECTION_COUNT][BitBoard.SQUARE_COUNT];
+
+    // Squares strictly between two squares on a common line, 0 if they share no line
+    private static final long[][] BETWEEN = new long[BitBoard.SQUARE_COUNT][BitBoard.SQUARE_COUNT];
+
+    // Whole line through two squares from edge to edge, 0 if they share no line
+    private static final long[][] LINES = new long[BitBoard.SQUARE_COUNT][BitBoard.SQUARE_COUNT];
+
+    static {
+        for(int square = 0; square < BitBoard.SQUARE_COUNT; ++square){
+            int row = BitBoard.getRow(square);
+            int column = BitBoard.getColumn(square);
+
+            for(int[] step : KNIGHT_STEPS){
+                KNIGHT_ATTACKS[square] |= getSquareBit(row + step[0], column + step[1]);
+            }
+
+            for(int direction = 0; direction < DIRECTION_COUNT; ++direction){
+                int rowStep = DIRECTION_ROW_STEPS[direction];
+                int columnStep = DIRECTION_COLUMN_STEPS[direction];
+
+                KING_ATTACKS[square] |= getSquareBit(row + rowStep, column + columnStep);
+
+                int length = 0;
+                while(isOnBoard(row + rowStep * (length + 1), column + columnStep * (length + 1))){
+                    ++length;
+                }
+
+                RAYS[square][direction] = new int[length];
+                long between = 0L;
+
+                for(int i = 0; i < length; ++i){
+                    int raySquare = BitBoard.getSquare(row + rowStep * (i + 1), column + columnStep * (i + 1));
+
+                    RAYS[square][direction][i] = raySquare;
+                    RAY_MASKS[direction][square] |= 1L << raySquare;
+
+                    BETWEEN[square][raySquare] = between;
+                    between |= 1L << raySquare;
+                }
+            }
+
+            PAWN_ATTACKS[PieceColor.WHITE.ordinal()][square] =
+                    getSquareBit(row + 1, column - 1) | getSquareBit(row + 1, column + 1);
+            PAWN_ATTACKS[PieceColor.BLACK.ordinal()][square] =
+                    getSquareBit(row - 1, column - 1) | getSquareBit(row - 1, column + 1);
+        }
+
+        // Lines need the rays of both directions, so they are filled once all rays are known
+        for(int square = 0; square < BitBoard.SQUARE_COUNT; ++square){
+            for(int direction = 0; direction < DIRECTION_COUNT; ++direction){
+                long line = RAY_MASKS[direction][square] | RAY_MASKS[getOppositeDirection(direction)][square] |
+                        1L << square;
+
+                for(int raySquare : RAYS[square][direction]){
+                    LINES[square][raySquare] = line;
+                }
+            }
+        }
+    }
+
+    // Helper method for the static initializer, gets the direction pointing the other way
+    private static int getOppositeDirection(int direction){
+
+        int oppositeDirection = 0;
+
+        while(DIRECTION_ROW_STEPS[oppositeDirection] != -DIRECTION_ROW_STEPS[direction] ||
+                DIRECTION_COLUMN_STEPS[oppositeDirection] != -DIRECTION_COLUMN_STEPS[direction]){
+            ++oppositeDirection;
+        }
+        return oppositeDirection;
+    }
+
+    // Helper method for 'getRayAttacks', checks if a direction moves to higher square indexes
+    private static boolean isPositiveDirection(int direction){
+        return DIRECTION_ROW_STEPS[direction] * 8 + DIRECTION_COLUMN_STEPS[direction] > 0;
+    }
+
+    // Helper method for the static initializer, checks if a row and column are on the board
+    private static boolean isOnBoard(int row, int column){
+        return row >= 0 && row < 8 && column >= 0 && column < 8;
+    }
+
+    // Helper method for the static initializer, gets the bit of a square or 0 if off the board
+    private static long getSquareBit(int row, int column){
+        return isOnBoard(row, column) ? 1L << BitBoard.getSquare(row, column) : 0L;
+    }
+
+    // Methods for getting the attack sets of pieces that do not slide
+    public static long getKnightAttacks(int square){
+        return KNIGHT_ATTACKS[square];
+    }
+    public static long getKingAttacks(int square){
+        return KING_ATTACKS[square];
+    }
+    public static long getPawnAttacks(PieceColor color, int square){
+        return PAWN_ATTACKS[color.ordinal()][square];
+    }
+
+    /**
+     * Method that gets the squares attacked along one ray, up to and
+     * including the first occupied square
+     *
+     * @param square the square the ray starts from
+     * @param direction the direction of ray
+     * @param occupancy the set of occupied squares
+     * @return the set of attacked squares
+     */
+    public static long getRayAttacks(int square, int direction, long occupancy){
+
+        long ray = RAY_MASKS[direction][square];
+        long blockers = ray & occupancy;
+
+        if(blockers == 0){
+            return ray;
+        }
+
+        // The nearest blocker is the lowest bit on rays going up and the highest going down
+        int blocker = isPositiveDirection(direction) ?
+                Long.numberOfTrailingZeros(blockers) : 63 - Long.numberOfLeadingZeros(blockers);
+
+        return ray ^ RAY_MASKS[direction][blocker];
+    }
+
+    /**
+     * Method that gets the squares attacked by a Rook
+     *
+     * @param square the square of Rook
+     * @param occupancy the set of occupied squares
+     * @return the set of attacked squares, including the blocking pieces
+     */
+    public static long getRookAttacks(int square, long occupancy){
+        return MagicTables.getRookAttacks(square, occupancy);
+    }
+
+    /**
+     * Method that gets the squares attacked by a Bishop
+     *
+     * @param square the square of Bishop
+     * @param occupancy the set of occupied squares
+     * @return the set of attacked squares, including the blocking pieces
+     */
+    public static long getBishopAttacks(int square, long occupancy){
+        return MagicTables.getBishopAttacks(square, occupancy);
+    }
+
+    /**
+     * Method that gets the squares strictly between two squares
+     *
+     * @param from the first square
+     * @param to the second square
+     * @return the squares between, 0 if the squares are not on a common line
+     */
+    public static long getBetween(int from, int to){
+        return BETWEEN[from][to];
+    }
+
+    /**
+     * Method that gets the whole line through two squares, both squares included
+     *
+     * @param square1 the first square
+     * @param square2 the second square
+     * @return the squares of line, 0 if the squares are not on a common line
+     */
+    public static long getLine(int square1, int square2){
+        return LINES[square1][square2];
+    }
+
+    /**
+     * Method for getting the set of squares of a ray starting next to a square
+     *
+     * @param square the square the ray starts from
+     * @param direction the direction of ray
+     * @return the squares of ray
+     */
+    public static long getRayMask(int square, int direction){
+        return RAY_MASKS[direction][square];
+    }
+
+    /**
+     * Method for getting the squares of a ray starting next to a square,
+     * ordered from the nearest to the edge of the board
+     *
+     * @param square the square the ray starts from
+     * @param direction the direction, orthogonal ones come first
+     * @return the squares of ray, must not be modified
+     */
+    public static int[] getRay(int square, int direction){
+        return RAYS[square][direction];
+    }
+}
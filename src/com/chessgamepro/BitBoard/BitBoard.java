@@ -0,0 +1,688 @@
+package com.chessgamepro.BitBoard;
+
+import com.chessgamepro.ChessPieces.PieceColor;
+import com.chessgamepro.ChessPieces.PieceType;
+
+import java.util.Arrays;
+
+/**
+ * A position representation built from 64-bit piece sets. Every
+ * color/type combination has its own set of squares, a square being
+ * an index from 0 (a1) to 63 (h8) calculated as row * 8 + column
+ */
+public class BitBoard {
+
+    // Constants describing size of board
+    public static final int SQUARE_COUNT = 64;
+    public static final int PIECE_COUNT = 12;
+    public static final int TYPE_COUNT = 6;
+
+    // Constants representing an empty square and a missing square
+    public static final int NO_PIECE = -1;
+    public static final int NO_SQUARE = -1;
+
+    // Constants representing castling rights, each right is one bit
+    public static final int WHITE_KING_SIDE_CASTLE = 1;
+    public static final int WHITE_QUEEN_SIDE_CASTLE = 2;
+    public static final int BLACK_KING_SIDE_CASTLE = 4;
+    public static final int BLACK_QUEEN_SIDE_CASTLE = 8;
+    public static final int ALL_CASTLES = 15;
+
+    // Capacity of the stack of irreversible state once the first move is made,
+    // grows if needed
+    private static final int INITIAL_HISTORY_CAPACITY = 256;
+
+    // Move saved in history for a null move, no piece moves from a square to itself
+    private static final int NULL_MOVE = 0;
+
+    // Cached piece types, values() creates a new array on every call
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    // Castling rights that remain after a piece moves from or to a square
+    private static final int[] CASTLING_MASKS = new int[SQUARE_COUNT];
+
+    static {
+        Arrays.fill(CASTLING_MASKS, ALL_CASTLES);
+        CASTLING_MASKS[0] &= ~WHITE_QUEEN_SIDE_CASTLE;
+        CASTLING_MASKS[4] &= ~(WHITE_KING_SIDE_CASTLE | WHITE_QUEEN_SIDE_CASTLE);
+        CASTLING_MASKS[7] &= ~WHITE_KING_SIDE_CASTLE;
+        CASTLING_MASKS[56] &= ~BLACK_QUEEN_SIDE_CASTLE;
+        CASTLING_MASKS[60] &= ~(BLACK_KING_SIDE_CASTLE | BLACK_QUEEN_SIDE_CASTLE);
+        CASTLING_MASKS[63] &= ~BLACK_KING_SIDE_CASTLE;
+    }
+
+    private final long[] pieceBitBoards;
+    private final long[] colorBitBoards;
+    private long occupancy;
+    private final int[] squarePieces;
+
+    private PieceColor sideToMove;
+    private int castlingRights;
+    private int enPassantSquare;
+    private int halfMoveClock;
+    private int fullMoveNumber;
+    private long zobristKey;
+
+    // Stack of irreversible state, one entry for every move made
+    private int[] moveHistory;
+    private int[] capturedPieceHistory;
+    private int[] castlingRightsHistory;
+    private int[] enPassantSquareHistory;
+    private int[] halfMoveClockHistory;
+    private long[] zobristKeyHistory;
+    private int historySize;
+
+    /**
+     * Constructor for an empty BitBoard with White to move
+     */
+    public BitBoard(){
+
+        pieceBitBoards = new long[PIECE_COUNT];
+        colorBitBoards = new long[2];
+        occupancy = 0L;
+
+        squarePieces = new int[SQUARE_COUNT];
+        Arrays.fill(squarePieces, NO_PIECE);
+
+        sideToMove = PieceColor.WHITE;
+        castlingRights = 0;
+        enPassantSquare = NO_SQUARE;
+        halfMoveClock = 0;
+        fullMoveNumber = 1;
+        zobristKey = 0L;
+
+        // History is allocated with the first move, copies used only for
+        // queries never pay for it
+        moveHistory = new int[0];
+        capturedPieceHistory = new int[0];
+        castlingRightsHistory = new int[0];
+        enPassantSquareHistory = new int[0];
+        halfMoveClockHistory = new int[0];
+        zobristKeyHistory = new long[0];
+        historySize = 0;
+    }
+
+    /**
+     * Copy constructor for BitBoard, the history of made moves
+     * is not copied
+     *
+     * @param bitBoard the reference BitBoard by which a new one is created
+     */
+    public BitBoard(BitBoard bitBoard){
+        this();
+
+        System.arraycopy(bitBoard.pieceBitBoards, 0, pieceBitBoards, 0, PIECE_COUNT);
+        System.arraycopy(bitBoard.colorBitBoards, 0, colorBitBoards, 0, 2);
+        System.arraycopy(bitBoard.squarePieces, 0, squarePieces, 0, SQUARE_COUNT);
+        occupancy = bitBoard.occupancy;
+
+        sideToMove = bitBoard.sideToMove;
+        castlingRights = bitBoard.castlingRights;
+        enPassantSquare = bitBoard.enPassantSquare;
+        halfMoveClock = bitBoard.halfMoveClock;
+        fullMoveNumber = bitBoard.fullMoveNumber;
+        zobristKey = bitBoard.zobristKey;
+    }
+
+    /**
+     * Method that empties the board and resets it to the state of a new
+     * BitBoard, the history buffers are kept so a reused BitBoard does
+     * not allocate them again
+     */
+    public void clear(){
+
+        Arrays.fill(pieceBitBoards, 0L);
+        Arrays.fill(colorBitBoards, 0L);
+        occupancy = 0L;
+        Arrays.fill(squarePieces, NO_PIECE);
+
+        sideToMove = PieceColor.WHITE;
+        castlingRights = 0;
+        enPassantSquare = NO_SQUARE;
+        halfMoveClock = 0;
+        fullMoveNumber = 1;
+        zobristKey = 0L;
+        historySize = 0;
+    }
+
+    /* Block of methods for converting between pieces, types, colors and squares */
+
+    /**
+     * Method that gets the index of the piece set of a given type and color
+     *
+     * @param type the type of piece
+     * @param color the color of piece
+     * @return the piece index from 0 to 11
+     */
+    public static int getPiece(PieceType type, PieceColor color){
+        return color.ordinal() * TYPE_COUNT + type.ordinal();
+    }
+
+    /**
+     * Method that gets the type of a piece index
+     *
+     * @param piece the piece index
+     * @return the type of piece
+     */
+    public static PieceType getPieceType(int piece){
+        return PIECE_TYPES[piece % TYPE_COUNT];
+    }
+
+    /**
+     * Method that gets the color of a piece index
+     *
+     * @param piece the piece index
+     * @return the color of piece
+     */
+    public static PieceColor getPieceColor(int piece){
+        return piece < TYPE_COUNT ? PieceColor.WHITE : PieceColor.BLACK;
+    }
+
+    /**
+     * Method that gets the square index of a row and column
+     *
+     * @param row the row of square
+     * @param column the column of square
+     * @return the square index from 0 to 63
+     */
+    public static int getSquare(int row, int column){
+        return row * 8 + column;
+    }
+
+    // Methods for getting the row and column of a square index
+    public static int getRow(int square){
+        return square >>> 3;
+    }
+    public static int getColumn(int square){
+        return square & 7;
+    }
+
+    /* End of block of methods for converting between pieces, types, colors and squares */
+
+    /**
+     * Method that puts a piece on a square, any piece already standing
+     * on the square is removed first
+     *
+     * @param square the square of piece
+     * @param piece the piece index
+     */
+    public void addPiece(int square, int piece){
+
+        if(squarePieces[square] != NO_PIECE){
+            removePiece(square);
+        }
+
+        long squareBit = 1L << square;
+
+        pieceBitBoards[piece] |= squareBit;
+        colorBitBoards[piece / TYPE_COUNT] |= squareBit;
+        occupancy |= squareBit;
+        squarePieces[square] = piece;
+
+        zobristKey ^= Zobrist.getPieceKey(piece, square);
+    }
+
+    /**
+     * Method that removes the piece standing on a square
+     *
+     * @param square the square of piece
+     * @return the piece index that was removed, NO_PIECE if the
+     * square was empty
+     */
+    public int removePiece(int square){
+
+        int piece = squarePieces[square];
+
+        if(piece == NO_PIECE){
+            return NO_PIECE;
+        }
+
+        long squareBit = 1L << square;
+
+        pieceBitBoards[piece] &= ~squareBit;
+        colorBitBoards[piece / TYPE_COUNT] &= ~squareBit;
+        occupancy &= ~squareBit;
+        squarePieces[square] = NO_PIECE;
+
+        zobristKey ^= Zobrist.getPieceKey(piece, square);
+
+        return piece;
+    }
+
+    /**
+     * Method that moves a piece between two squares without checking
+     * for captures, both squares must be known before the call
+     *
+     * @param from the square piece moves from
+     * @param to the empty square piece moves to
+     */
+    private void movePiece(int from, int to){
+
+        int piece = squarePieces[from];
+        long fromToBits = (1L << from) | (1L << to);
+
+        pieceBitBoards[piece] ^= fromToBits;
+        colorBitBoards[piece / TYPE_COUNT] ^= fromToBits;
+        occupancy ^= fromToBits;
+
+        squarePieces[from] = NO_PIECE;
+        squarePieces[to] = piece;
+
+        zobristKey ^= Zobrist.getPieceKey(piece, from) ^ Zobrist.getPieceKey(piece, to);
+    }
+
+    /**
+     * Method for making a move on this BitBoard. Castling, en-passant and
+     * promotion are recognized from the piece moving and the squares.
+     *
+     * @param from the square from which a piece moves
+     * @param to the square to which a piece moves
+     * @param promotedPieceType the type a pawn promotes into, null if this
+     *                          is not a promoting move
+     */
+    public void makeMove(int from, int to, PieceType promotedPieceType){
+
+        int pieceMoving = squarePieces[from];
+        PieceType typeMoving = getPieceType(pieceMoving);
+
+        int capturedSquare = to;
+
+        // A Pawn moving onto the en-passant square captures the Pawn behind it
+        if(typeMoving == PieceType.PAWN && to == enPassantSquare){
+            capturedSquare = sideToMove == PieceColor.WHITE ? to - 8 : to + 8;
+        }
+
+        int capturedPiece = squarePieces[capturedSquare];
+
+        pushHistory(from, to, promotedPieceType, capturedPiece);
+
+        if(capturedPiece != NO_PIECE){
+            removePiece(capturedSquare);
+        }
+
+        movePiece(from, to);
+
+        // King moving two columns is castling, the Rook jumps over the King
+        if(typeMoving == PieceType.KING && Math.abs(to - from) == 2){
+            if(to > from){
+                movePiece(to + 1, to - 1);
+            }else{
+                movePiece(to - 2, to + 1);
+            }
+        }
+
+        if(promotedPieceType != null){
+            removePiece(to);
+            addPiece(to, getPiece(promotedPieceType, sideToMove));
+        }
+
+        // Update irreversible state
+        setCastlingRights(updateCastlingRights(castlingRights, from, to));
+
+        if(typeMoving == PieceType.PAWN && Math.abs(to - from) == 16){
+            setEnPassantSquare((from + to) / 2);
+        }else{
+            setEnPassantSquare(NO_SQUARE);
+        }
+
+        if(typeMoving == PieceType.PAWN || capturedPiece != NO_PIECE){
+            halfMoveClock = 0;
+        }else{
+            ++halfMoveClock;
+        }
+
+        if(sideToMove == PieceColor.BLACK){
+            ++fullMoveNumber;
+        }
+
+        sideToMove = sideToMove.getOppositeColor();
+        zobristKey ^= Zobrist.getSideKey();
+    }
+
+    /**
+     * Method for passing the turn without moving a piece (null move), used
+     * by search to prove a position is good even if the side to move could
+     * pass. The side to move is toggled and the en-passant square cleared,
+     * it is undone by 'undoMove' like any other move.
+     */
+    public void makeNullMove(){
+
+        pushHistory(0, 0, null, NO_PIECE);
+
+        setEnPassantSquare(NO_SQUARE);
+        ++halfMoveClock;
+
+        if(sideToMove == PieceColor.BLACK){
+            ++fullMoveNumber;
+        }
+
+        sideToMove = sideToMove.getOppositeColor();
+        zobristKey ^= Zobrist.getSideKey();
+    }
+
+    /**
+     * Method that removes the castling rights lost by a piece moving
+     * from or to a King or Rook starting square
+     *
+     * @param castlingRights the castling rights before the move
+     * @param from the square from which a piece moves
+     * @param to the square to which a piece moves
+     * @return the castling rights after the move
+     */
+    public static int updateCastlingRights(int castlingRights, int from, int to){
+        return castlingRights & CASTLING_MASKS[from] & CASTLING_MASKS[to];
+    }
+
+    /**
+     * Method that undoes the last made move, null moves included
+     */
+    public void undoMove(){
+
+        if(historySize == 0){
+            return;
+        }
+
+        --historySize;
+
+        int move = moveHistory[historySize];
+        int from = move & 63;
+        int to = (move >>> 6) & 63;
+        int promotion = move >>> 12;
+
+        sideToMove = sideToMove.getOppositeColor();
+
+        if(sideToMove == PieceColor.BLACK){
+            --fullMoveNumber;
+        }
+
+        castlingRights = castlingRightsHistory[historySize];
+        enPassantSquare = enPassantSquareHistory[historySize];
+        halfMoveClock = halfMoveClockHistory[historySize];
+
+        // A null move moved no pieces, only the state is restored
+        if(move == NULL_MOVE){
+            zobristKey = zobristKeyHistory[historySize];
+            return;
+        }
+
+        // Turn the promoted piece back into a Pawn
+        if(promotion != 0){
+            removePiece(to);
+            addPiece(to, getPiece(PieceType.PAWN, sideToMove));
+        }
+
+        movePiece(to, from);
+
+        PieceType typeMoving = getPieceType(squarePieces[from]);
+
+        // Bring the castled Rook back to its corner
+        if(typeMoving == PieceType.KING && Math.abs(to - from) == 2){
+            if(to > from){
+                movePiece(to - 1, to + 1);
+            }else{
+                movePiece(to + 1, to - 2);
+            }
+        }
+
+        // 'Bring back' the captured piece
+        int capturedPiece = capturedPieceHistory[historySize];
+
+        if(capturedPiece != NO_PIECE){
+            int capturedSquare = to;
+
+            if(typeMoving == PieceType.PAWN && to == enPassantSquare){
+                capturedSquare = sideToMove == PieceColor.WHITE ? to - 8 : to + 8;
+            }
+
+            addPiece(capturedSquare, capturedPiece);
+        }
+
+        // Key saved before the move replaces the one changed by piece movement
+        zobristKey = zobristKeyHistory[historySize];
+    }
+
+    /**
+     * Helper method for 'makeMove' that saves all state that cannot be
+     * recovered by reversing a move
+     */
+    private void pushHistory(int from, int to, PieceType promotedPieceType, int capturedPiece){
+
+        if(historySize == moveHistory.length){
+            int newCapacity = Math.max(INITIAL_HISTORY_CAPACITY, moveHistory.length * 2);
+
+            moveHistory = Arrays.copyOf(moveHistory, newCapacity);
+            capturedPieceHistory = Arrays.copyOf(capturedPieceHistory, newCapacity);
+            castlingRightsHistory = Arrays.copyOf(castlingRightsHistory, newCapacity);
+            enPassantSquareHistory = Arrays.copyOf(enPassantSquareHistory, newCapacity);
+            halfMoveClockHistory = Arrays.copyOf(halfMoveClockHistory, newCapacity);
+            zobristKeyHistory = Arrays.copyOf(zobristKeyHistory, newCapacity);
+        }
+
+        int promotion = promotedPieceType == null ? 0 : promotedPieceType.ordinal() + 1;
+
+        moveHistory[historySize] = from | (to << 6) | (promotion << 12);
+        capturedPieceHistory[historySize] = capturedPiece;
+        castlingRightsHistory[historySize] = castlingRights;
+        enPassantSquareHistory[historySize] = enPassantSquare;
+        halfMoveClockHistory[historySize] = halfMoveClock;
+        zobristKeyHistory[historySize] = zobristKey;
+
+        ++historySize;
+    }
+
+    /**
+     * Method gets the piece at a given square
+     *
+     * @param square the given square
+     * @return the piece index, NO_PIECE if the square is empty
+     */
+    public int getPieceAtSquare(int square){
+        return squarePieces[square];
+    }
+
+    /**
+     * Method that checks if no piece is at the given square
+     *
+     * @param square the given square
+     * @return true if empty, false otherwise
+     */
+    public boolean isSquareEmpty(int square){
+        return (occupancy & (1L << square)) == 0;
+    }
+
+    /**
+     * Method that checks if a piece of given color is at a square
+     *
+     * @param square the given square
+     * @param color the color checking for
+     * @return true if a piece of specified color is at square, false otherwise
+     */
+    public boolean isColorAtSquare(int square, PieceColor color){
+        return (colorBitBoards[color.ordinal()] & (1L << square)) != 0;
+    }
+
+    /**
+     * Method that checks if a piece of given type is at a square
+     *
+     * @param square the given square
+     * @param type the type checking for
+     * @return true if a piece of specified type is at a square, false otherwise
+     */
+    public boolean isTypeAtSquare(int square, PieceType type){
+        long squareBit = 1L << square;
+
+        return ((pieceBitBoards[type.ordinal()] | pieceBitBoards[type.ordinal() + TYPE_COUNT])
+                & squareBit) != 0;
+    }
+
+    /**
+     * Method that checks if a square is attacked by any piece of a color.
+     * It looks outward from the square, every piece type is a single lookup,
+     * sliders by the magic attacks of a Rook and a Bishop on the square.
+     *
+     * @param square the square checked
+     * @param byColor the color of attacking pieces
+     * @return true if any piece of byColor attacks the square, false otherwise
+     */
+    public boolean isSquareAttacked(int square, PieceColor byColor){
+
+        int colorOffset = byColor.ordinal() * TYPE_COUNT;
+
+        // A Pawn of byColor attacks the square if a Pawn of the other color
+        // standing on the square would attack it
+        if((AttackTables.getPawnAttacks(byColor.getOppositeColor(), square) &
+                pieceBitBoards[colorOffset + PieceType.PAWN.ordinal()]) != 0){
+            return true;
+        }
+
+        if((AttackTables.getKnightAttacks(square) & pieceBitBoards[colorOffset + PieceType.KNIGHT.ordinal()]) != 0){
+            return true;
+        }
+
+        if((AttackTables.getKingAttacks(square) & pieceBitBoards[colorOffset + PieceType.KING.ordinal()]) != 0){
+            return true;
+        }
+
+        long queens = pieceBitBoards[colorOffset + PieceType.QUEEN.ordinal()];
+
+        if((AttackTables.getRookAttacks(square, occupancy) &
+                (pieceBitBoards[colorOffset + PieceType.ROOK.ordinal()] | queens)) != 0){
+            return true;
+        }
+
+        return (AttackTables.getBishopAttacks(square, occupancy) &
+                (pieceBitBoards[colorOffset + PieceType.BISHOP.ordinal()] | queens)) != 0;
+    }
+
+    /**
+     * Method that checks if the King of a color is attacked
+     *
+     * @param color the color of King
+     * @return true if King of color is in check, false otherwise or if there is no King
+     */
+    public boolean isKingInCheck(PieceColor color){
+
+        long king = getPieceBitBoard(PieceType.KING, color);
+
+        return king != 0 && isSquareAttacked(Long.numberOfTrailingZeros(king), color.getOppositeColor());
+    }
+
+    // Methods for getting the sets of squares
+    public long getPieceBitBoard(PieceType type, PieceColor color){
+        return pieceBitBoards[getPiece(type, color)];
+    }
+    public long getColorBitBoard(PieceColor color){
+        return colorBitBoards[color.ordinal()];
+    }
+    public long getOccupancy(){
+        return occupancy;
+    }
+
+    // Methods for getting and setting the color whose turn it is
+    public PieceColor getSideToMove(){
+        return sideToMove;
+    }
+    public void setSideToMove(PieceColor newSideToMove){
+
+        if(newSideToMove != sideToMove){
+            zobristKey ^= Zobrist.getSideKey();
+        }
+        sideToMove = newSideToMove;
+    }
+
+    // Methods for getting and setting the castling rights
+    public int getCastlingRights(){
+        return castlingRights;
+    }
+    public void setCastlingRights(int newCastlingRights){
+        zobristKey ^= Zobrist.getCastlingKey(castlingRights) ^ Zobrist.getCastlingKey(newCastlingRights);
+        castlingRights = newCastlingRights;
+    }
+
+    // Methods for getting and setting the en-passant square
+    public int getEnPassantSquare(){
+        return enPassantSquare;
+    }
+    public void setEnPassantSquare(int newEnPassantSquare){
+        zobristKey ^= Zobrist.getEnPassantKey(enPassantSquare) ^ Zobrist.getEnPassantKey(newEnPassantSquare);
+        enPassantSquare = newEnPassantSquare;
+    }
+
+    // Methods for getting and setting the move clocks
+    public int getHalfMoveClock(){
+        return halfMoveClock;
+    }
+    public void setHalfMoveClock(int newHalfMoveClock){
+        halfMoveClock = newHalfMoveClock;
+    }
+    public int getFullMoveNumber(){
+        return fullMoveNumber;
+    }
+    public void setFullMoveNumber(int newFullMoveNumber){
+        fullMoveNumber = newFullMoveNumber;
+    }
+
+    /**
+     * Method for getting the Zobrist key of this position, it covers piece
+     * placement, side to move, castling rights and en-passant file
+     *
+     * @return the 64-bit key of position
+     */
+    public long getZobristKey(){
+        return zobristKey;
+    }
+
+    /**
+     * Method for restoring irreversible state saved before a move, used by
+     * owners that keep their own history of moves made on this BitBoard
+     *
+     * @param sideToMove the saved side to move
+     * @param castlingRights the saved castling rights
+     * @param enPassantSquare the saved en-passant square
+     * @param halfMoveClock the saved half move clock
+     * @param zobristKey the saved key, replaces the current one
+     */
+    public void restoreState(PieceColor sideToMove, int castlingRights, int enPassantSquare,
+                             int halfMoveClock, long zobristKey){
+        this.sideToMove = sideToMove;
+        this.castlingRights = castlingRights;
+        this.enPassantSquare = enPassantSquare;
+        this.halfMoveClock = halfMoveClock;
+        this.zobristKey = zobristKey;
+    }
+
+    /**
+     * Method for getting the number of moves that can be undone
+     *
+     * @return the size of move history
+     */
+    public int getHistorySize(){
+        return historySize;
+    }
+
+    /**
+     * Overridden method that checks if a given BitBoard holds the
+     * same position as this instance of BitBoard
+     *
+     * @param obj the object checking for
+     * @return true if they are equal, false otherwise
+     */
+    @Override
+    public boolean equals(Object obj) {
+
+        if(!(obj instanceof BitBoard otherBitBoard)){
+            return false;
+        }
+
+        return zobristKey == otherBitBoard.zobristKey &&
+                Arrays.equals(pieceBitBoards, otherBitBoard.pieceBitBoards) &&
+                sideToMove == otherBitBoard.sideToMove &&
+                castlingRights == otherBitBoard.castlingRights &&
+                enPassantSquare == otherBitBoard.enPassantSquare;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (zobristKey ^ (zobristKey >>> 32));
+    }
+}
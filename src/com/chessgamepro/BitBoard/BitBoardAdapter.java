@@ -0,0 +1,114 @@
+package com.chessgamepro.BitBoard;
+
+import com.chessgamepro.ChessPieces.ChessPiece;
+import com.chessgamepro.ChessPieces.PieceColor;
+import com.chessgamepro.ChessPieces.PieceType;
+import com.chessgamepro.GameBoard.Coordinate;
+import com.chessgamepro.GameBoard.GameBoard;
+import com.chessgamepro.GameBoard.Move;
+
+import java.util.List;
+
+/**
+ * Class that converts between the object representation used by
+ * GameBoard (ChessPiece, Coordinate, Move) and BitBoard
+ */
+public final class BitBoardAdapter {
+
+    /**
+     * Method that gets the square index of a coordinate
+     *
+     * @param coordinate the given coordinate
+     * @return the square index from 0 to 63
+     */
+    public static int getSquare(Coordinate coordinate){
+        return BitBoard.getSquare(coordinate.getRow(), coordinate.getColumn());
+    }
+
+    /**
+     * Method that gets the coordinate of a square index
+     *
+     * @param square the given square index
+     * @return a new coordinate of the square
+     */
+    public static Coordinate getCoordinate(int square){
+        return new Coordinate(BitBoard.getRow(square), BitBoard.getColumn(square));
+    }
+
+    /**
+     * Method that gets the piece index of a ChessPiece
+     *
+     * @param piece the given piece
+     * @return the piece index from 0 to 11
+     */
+    public static int getPiece(ChessPiece piece){
+        return BitBoard.getPiece(piece.getType(), piece.getColor());
+    }
+
+    /**
+     * Method that creates a BitBoard holding the same position as a GameBoard
+     *
+     * @param gameBoard the given game board
+     * @param sideToMove the color whose turn it is
+     * @return a new BitBoard
+     */
+    public static BitBoard getBitBoard(GameBoard gameBoard, PieceColor sideToMove){
+
+        BitBoard bitBoard = new BitBoard(gameBoard.getBitBoard());
+
+        bitBoard.setSideToMove(sideToMove);
+
+        return bitBoard;
+    }
+
+    /**
+     * Method that makes a GameBoard move on a BitBoard
+     *
+     * @param bitBoard the BitBoard on which the move is made
+     * @param move the move being made
+     */
+    public static void makeMove(BitBoard bitBoard, Move move){
+
+        bitBoard.makeMove(
+                getSquare(move.getFrom()),
+                getSquare(move.getTo()),
+                move.getIsPromotion() ? move.getPromotedPieceType() : null
+        );
+    }
+
+    /**
+     * Method that finds the move in a list of GameBoard moves that is
+     * equivalent to a move packed by MoveGenerator
+     *
+     * @param moveList the list of moves searched through
+     * @param move the packed move
+     * @return the equivalent move, null if there is none
+     */
+    public static Move findMove(List<Move> moveList, int move){
+        return findMove(moveList, MoveGenerator.getFrom(move), MoveGenerator.getTo(move),
+                MoveGenerator.getPromotedPieceType(move));
+    }
+
+    /**
+     * Method that finds the move in a list of GameBoard moves that is
+     * equivalent to a BitBoard move
+     *
+     * @param moveList the list of moves searched through
+     * @param from the square from which a piece moves
+     * @param to the square to which a piece moves
+     * @param promotedPieceType the type a pawn promotes into, null if this
+     *                          is not a promoting move
+     * @return the equivalent move, null if there is none
+     */
+    public static Move findMove(List<Move> moveList, int from, int to, PieceType promotedPieceType){
+
+        for(Move move : moveList){
+            if(getSquare(move.getFrom()) == from &&
+                    getSquare(move.getTo()) == to &&
+                    (!move.getIsPromotion() || move.getPromotedPieceType() == promotedPieceType)){
+                return move;
+            }
+        }
+        return null;
+    }
+}
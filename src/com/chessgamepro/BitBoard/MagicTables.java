@@ -0,0 +1,217 @@
+package com.chessgamepro.BitBoard;
+
+/**
+ * Class holding magic bitboard tables of Rook and Bishop attacks. The
+ * squares that can block a slider on a square are its relevant mask, the
+ * blockers inside that mask multiplied by the magic number of square give
+ * in their top bits an index into the table of attacks of that square.
+ * Every lookup is one AND, one multiply, one shift and one array read.
+ *
+ * The magic numbers were found by a search of random sparse numbers from
+ * a fixed seed and are kept as constants, when the class is loaded only
+ * the attack tables are built from them. The tables are never written
+ * afterwards and are shared by all threads.
+ */
+public final class MagicTables {
+
+    // Magic numbers of every square, the first found for it by a search from a fixed seed
+    private static final long[] ROOK_MAGICS = {
+            0x0080008219614000L, 0x0040200010004002L, 0x0100081104200040L, 0x0480041000800800L,
+            0x0900050010020800L, 0xA500010022040008L, 0x0080020000800100L, 0x8200020021004084L,
+            0x0114800020804004L, 0x4008402000401000L, 0x0001001020084100L, 0x4840801000080081L,
+            0x002C800800800400L, 0x0096000802002430L, 0x0114000804011082L, 0x3002000100522484L,
+            0x8080004000200040L, 0x0440808040002000L, 0x0210008020008010L, 0x1400808008001004L,
+            0x0E01010006080010L, 0x0014004002004100L, 0x0050840048021001L, 0x1102120020804104L,
+            0x2008400080288002L, 0x04A0208500400100L, 0x0620002100104900L, 0x1000104200220008L,
+            0x0017021100040800L, 0x0412000280140080L, 0x4002000200080104L, 0x8801008200340041L,
+            0x0A40003040800880L, 0x2210002010404000L, 0x0800100080802000L, 0x0060100101000820L,
+            0x2064008008080040L, 0x1400800200800401L, 0x1100020104001008L, 0x2800800040800100L,
+            0x0020802040008000L, 0x0080200250024008L, 0x800C220010820040L, 0x821001001021000AL,
+            0x0010040008008080L, 0x0008040002008080L, 0x00C00102D0040008L, 0x020020840A460001L,
+            0x0001020080402600L, 0x2000200040008080L, 0x0141082004401100L, 0xA000100080080080L,
+            0xC100110008000500L, 0x2806040080020080L, 0x0083002482002100L, 0x0010040060910200L,
+            0x0800D10022088142L, 0x8000210880104001L, 0x0010400811002001L, 0x0000040820100101L,
+            0x0042000548502002L, 0x8401000204000803L, 0x0A105001080A40ACL, 0x0000044400211086L
+    };
+    private static final long[] BISHOP_MAGICS = {
+            0x0010011004004040L, 0x011012060C202000L, 0x0048020366008080L, 0x000820822002C009L,
+            0x800C504090001002L, 0x0080900420000188L, 0x4002080282504008L, 0x4842020494140200L,
+            0x0000400308012100L, 0x5201086808008020L, 0x0010512102060C20L, 0x0420082060400065L,
+            0x0020411040940300L, 0x4908030508C02000L, 0x0109040242022040L, 0x0000024C00882802L,
+            0x0420C00B02040800L, 0x0020002891040488L, 0x1081005000518100L, 0x2898000220805005L,
+            0x1412100401200040L, 0x081A0421004B0C00L, 0x0029004405089202L, 0x42604A2021080808L,
+            0x0321104104104212L, 0x0002101208114824L, 0x10114B0008020404L, 0x0061080001004100L,
+            0x401010100900400AL, 0x000C00200100A000L, 0x800C006004021202L, 0x80210A0001005114L,
+            0x2048200400080802L, 0x000241108C141008L, 0x0004444800B04801L, 0x0004020080280080L,
+            0x3500420022060080L, 0x0420020480024828L, 0x0088080640018224L, 0x0408008080202E00L,
+            0x0008180250050820L, 0x0400841008008210L, 0x1002010041010805L, 0x001020A018010101L,
+            0x0000080208200400L, 0x4002204040800100L, 0x8210245084000088L, 0x0008010908208200L,
+            0x0411040282402100L, 0x2010308404204841L, 0x804A188084410040L, 0x001C8A8E2A080000L,
+            0x0000059102120211L, 0x0880E43C88A20004L, 0x0408208882034608L, 0x0120010210811020L,
+            0x0099048044024000L, 0x0032010120900400L, 0x0002208084008880L, 0x8080000103940400L,
+            0x0230200010421200L, 0x0180802104010210L, 0x0000403031220091L, 0x5042081011220020L
+    };
+
+    private static final long[] ROOK_MASKS = new long[BitBoard.SQUARE_COUNT];
+    private static final int[] ROOK_SHIFTS = new int[BitBoard.SQUARE_COUNT];
+    private static final int[] ROOK_OFFSETS = new int[BitBoard.SQUARE_COUNT];
+    private static final long[] ROOK_ATTACKS;
+
+    private static final long[] BISHOP_MASKS = new long[BitBoard.SQUARE_COUNT];
+    private static final int[] BISHOP_SHIFTS = new int[BitBoard.SQUARE_COUNT];
+    private static final int[] BISHOP_OFFSETS = new int[BitBoard.SQUARE_COUNT];
+    private static final long[] BISHOP_ATTACKS;
+
+    private static final long BUILD_TIME_NANOS;
+
+    static {
+        long startTime = System.nanoTime();
+
+        ROOK_ATTACKS = buildTable(0, AttackTables.ORTHOGONAL_DIRECTION_COUNT,
+                ROOK_MASKS, ROOK_MAGICS, ROOK_SHIFTS, ROOK_OFFSETS);
+        BISHOP_ATTACKS = buildTable(AttackTables.ORTHOGONAL_DIRECTION_COUNT, AttackTables.DIRECTION_COUNT,
+                BISHOP_MASKS, BISHOP_MAGICS, BISHOP_SHIFTS, BISHOP_OFFSETS);
+
+        BUILD_TIME_NANOS = System.nanoTime() - startTime;
+    }
+
+    /**
+     * Helper method for the static initializer that fills the masks, shifts
+     * and offsets of one slider and builds its attack table
+     *
+     * @param firstDirection the first ray direction of slider
+     * @param lastDirection the ray direction after the last one of slider
+     * @return the attack table of all squares, each square at its offset
+     */
+    private static long[] buildTable(int firstDirection, int lastDirection, long[] masks, long[] magics,
+                                     int[] shifts, int[] offsets){
+
+        int tableSize = 0;
+
+        for(int square = 0; square < BitBoard.SQUARE_COUNT; ++square){
+
+            // The last square of every ray cannot block anything behind it
+            for(int direction = firstDirection; direction < lastDirection; ++direction){
+                int[] ray = AttackTables.getRay(square, direction);
+
+                for(int i = 0; i < ray.length - 1; ++i){
+                    masks[square] |= 1L << ray[i];
+                }
+            }
+
+            int bitCount = Long.bitCount(masks[square]);
+
+            shifts[square] = 64 - bitCount;
+            offsets[square] = tableSize;
+            tableSize += 1 << bitCount;
+        }
+
+        long[] table = new long[tableSize];
+
+        for(int square = 0; square < BitBoard.SQUARE_COUNT; ++square){
+            fillAttacks(square, firstDirection, lastDirection, masks[square], magics[square], shifts[square],
+                    table, offsets[square]);
+        }
+
+        return table;
+    }
+
+    /**
+     * Helper method for 'buildTable' that stores the attacks of every
+     * blocker set of square at the entry its magic number maps it to
+     *
+     * @throws IllegalStateException if the magic number maps two different
+     *                               attack sets to one entry
+     */
+    private static void fillAttacks(int square, int firstDirection, int lastDirection, long mask, long magic,
+                                    int shift, long[] table, int offset){
+
+        int subsetCount = 1 << Long.bitCount(mask);
+        boolean[] isUsed = new boolean[subsetCount];
+
+        // Walk every subset of the mask with the carry-rippler trick
+        long subset = 0L;
+        for(int i = 0; i < subsetCount; ++i){
+            int index = (int) ((subset * magic) >>> shift);
+            long attacks = getRayAttacks(square, firstDirection, lastDirection, subset);
+
+            if(isUsed[index] && table[offset + index] != attacks){
+                throw new IllegalStateException("Magic number of square " + square + " is not magic");
+            }
+
+            isUsed[index] = true;
+            table[offset + index] = attacks;
+            subset = (subset - mask) & mask;
+        }
+    }
+
+    // Helper method for 'fillAttacks' that walks the rays of a slider
+    private static long getRayAttacks(int square, int firstDirection, int lastDirection, long occupancy){
+
+        long attacks = 0L;
+
+        for(int direction = firstDirection; direction < lastDirection; ++direction){
+            attacks |= AttackTables.getRayAttacks(square, direction, occupancy);
+        }
+        return attacks;
+    }
+
+    /**
+     * Method that gets the squares attacked by a Rook
+     *
+     * @param square the square of Rook
+     * @param occupancy the set of occupied squares
+     * @return the set of attacked squares, including the blocking pieces
+     */
+    public static long getRookAttacks(int square, long occupancy){
+        return ROOK_ATTACKS[ROOK_OFFSETS[square] +
+                (int) (((occupancy & ROOK_MASKS[square]) * ROOK_MAGICS[square]) >>> ROOK_SHIFTS[square])];
+    }
+
+    /**
+     * Method that gets the squares attacked by a Bishop
+     *
+     * @param square the square of Bishop
+     * @param occupancy the set of occupied squares
+     * @return the set of attacked squares, including the blocking pieces
+     */
+    public static long getBishopAttacks(int square, long occupancy){
+        return BISHOP_ATTACKS[BISHOP_OFFSETS[square] +
+                (int) (((occupancy & BISHOP_MASKS[square]) * BISHOP_MAGICS[square]) >>> BISHOP_SHIFTS[square])];
+    }
+
+    /**
+     * Method that makes sure the tables are built. They are built when the
+     * class is loaded, calling this before a search keeps that time out of
+     * the time of the first move.
+     */
+    public static void load(){
+        // Loading the class to call this method builds the tables
+    }
+
+    // Method for getting the time it took to build the tables
+    public static long getBuildTimeMillis(){
+        return BUILD_TIME_NANOS / 1_000_000;
+    }
+
+    /**
+     * Method for getting the memory taken by the tables, counting only
+     * the array contents
+     *
+     * @return the size of tables in bytes
+     */
+    public static long getMemoryBytes(){
+
+        long longCount = ROOK_ATTACKS.length + BISHOP_ATTACKS.length +
+                ROOK_MASKS.length + ROOK_MAGICS.length + BISHOP_MASKS.length + BISHOP_MAGICS.length;
+        long intCount = ROOK_SHIFTS.length + ROOK_OFFSETS.length + BISHOP_SHIFTS.length + BISHOP_OFFSETS.length;
+
+        return longCount * Long.BYTES + intCount * Integer.BYTES;
+    }
+
+    // Method for getting a one line report of the size and build time of tables
+    public static String getReport(){
+        return "Magic tables: " + (ROOK_ATTACKS.length + BISHOP_ATTACKS.length) + " attack sets, " +
+                getMemoryBytes() / 1024 + " KB, built in " + getBuildTimeMillis() + " ms";
+    }
+}
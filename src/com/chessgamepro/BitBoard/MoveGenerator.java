@@ -0,0 +1,438 @@
+package com.chessgamepro.BitBoard;
+
+import com.chessgamepro.ChessPieces.PieceColor;
+import com.chessgamepro.ChessPieces.PieceType;
+
+/**
+ * Class that generates legal moves of a BitBoard position directly. The
+ * pieces giving check and the pieces pinned to their King are found once
+ * per position, every move is then restricted to the squares that resolve
+ * the check and to the line of its pin, so no move has to be made and
+ * undone to test it. Only King moves, en-passant and castling look at
+ * attacked squares.
+ *
+ * Moves are packed into the low 16 bits of an int as from | to << 6 |
+ * flags << 12. The flags tell quiet moves, double Pawn pushes, castling,
+ * captures, en-passant and promotions apart, the two low flag bits of a
+ * promotion select the promoted piece type. Moves are written into int
+ * buffers given by the caller, so generating them allocates nothing.
+ */
+public final class MoveGenerator {
+
+    // Upper bound of legal moves in any position, used for sizing move buffers
+    public static final int MAX_MOVES = 256;
+
+    // Never a legal move, a1 to a1
+    public static final int NO_MOVE = 0;
+
+    // Move flags, a capture has the CAPTURE bit set and a promotion the PROMOTION bit
+    public static final int QUIET = 0;
+    public static final int DOUBLE_PAWN_PUSH = 1;
+    public static final int KING_SIDE_CASTLE = 2;
+    public static final int QUEEN_SIDE_CASTLE = 3;
+    public static final int CAPTURE = 4;
+    public static final int EN_PASSANT = 5;
+    public static final int PROMOTION = 8;
+    public static final int PROMOTION_CAPTURE = 12;
+
+    // Piece types a Pawn may promote into, indexed by the two low flag bits of a promotion
+    private static final PieceType[] PROMOTION_TYPES = {
+            PieceType.QUEEN, PieceType.KNIGHT, PieceType.ROOK, PieceType.BISHOP
+    };
+
+    private static final long FIRST_ROW = 0xFFL;
+    private static final long LAST_ROW = 0xFFL << 56;
+
+    /* Block of methods that pack and unpack moves */
+
+    public static int getMove(int from, int to, int flags){
+        return from | (to << 6) | (flags << 12);
+    }
+    public static int getFrom(int move){
+        return move & 63;
+    }
+    public static int getTo(int move){
+        return (move >>> 6) & 63;
+    }
+    public static int getFlags(int move){
+        return (move >>> 12) & 15;
+    }
+    public static boolean isCapture(int move){
+        return (getFlags(move) & CAPTURE) != 0;
+    }
+    public static boolean isPromotion(int move){
+        return (getFlags(move) & PROMOTION) != 0;
+    }
+    public static PieceType getPromotedPieceType(int move){
+        return isPromotion(move) ? PROMOTION_TYPES[getFlags(move) & 3] : null;
+    }
+
+    /**
+     * Method that writes a packed move in coordinate notation, the promoted
+     * piece type is added as a lowercase letter
+     *
+     * @param move the packed move
+     * @return the move as text, for example "e2e4" or "e7e8q"
+     */
+    public static String toString(int move){
+
+        int from = getFrom(move);
+        int to = getTo(move);
+        StringBuilder moveString = new StringBuilder()
+                .append((char) ('a' + BitBoard.getColumn(from))).append((char) ('1' + BitBoard.getRow(from)))
+                .append((char) ('a' + BitBoard.getColumn(to))).append((char) ('1' + BitBoard.getRow(to)));
+
+        PieceType promotedPieceType = getPromotedPieceType(move);
+
+        if(promotedPieceType != null){
+            moveString.append(switch (promotedPieceType){
+                case QUEEN -> 'q';
+                case KNIGHT -> 'n';
+                case ROOK -> 'r';
+                default -> 'b';
+            });
+        }
+
+        return moveString.toString();
+    }
+
+    /**
+     * Method that makes a packed move on a BitBoard
+     *
+     * @param bitBoard the BitBoard on which the move is made
+     * @param move the packed move
+     */
+    public static void makeMove(BitBoard bitBoard, int move){
+        bitBoard.makeMove(getFrom(move), getTo(move), getPromotedPieceType(move));
+    }
+
+    /**
+     * Method that generates all legal moves of a color
+     *
+     * @param bitBoard the position, left unchanged
+     * @param color the color whose moves are generated
+     * @param moves the buffer the packed moves are written to, at least MAX_MOVES long
+     * @return the number of moves written
+     */
+    public static int generateLegalMoves(BitBoard bitBoard, PieceColor color, int[] moves){
+        return generateMoves(bitBoard, color, moves, false);
+    }
+
+    /**
+     * Method that generates only the legal captures, en-passant captures and
+     * promotions of a color, quiet moves are never generated. Used at the
+     * leaves of search where quiet moves are not searched.
+     *
+     * @param bitBoard the position, left unchanged
+     * @param color the color whose moves are generated
+     * @param moves the buffer the packed moves are written to, at least MAX_MOVES long
+     * @return the number of moves written
+     */
+    public static int generateLegalCaptures(BitBoard bitBoard, PieceColor color, int[] moves){
+        return generateMoves(bitBoard, color, moves, true);
+    }
+
+    /**
+     * Helper method for 'generateLegalMoves' and 'generateLegalCaptures' that
+     * generates legal moves of a color
+     *
+     * @param isCapturesOnly true if only captures and promotions are generated
+     * @return the number of moves written
+     */
+    private static int generateMoves(BitBoard bitBoard, PieceColor color, int[] moves, boolean isCapturesOnly){
+
+        PieceColor opponentColor = color.getOppositeColor();
+
+        long ownPieces = bitBoard.getColorBitBoard(color);
+        long opponentPieces = bitBoard.getColorBitBoard(opponentColor);
+        long occupancy = bitBoard.getOccupancy();
+
+        long king = bitBoard.getPieceBitBoard(PieceType.KING, color);
+        if(king == 0){
+            return 0;
+        }
+        int kingSquare = Long.numberOfTrailingZeros(king);
+
+        int moveCount = 0;
+
+        // King moves, sliders must see through the King so it cannot step back along their ray
+        long occupancyWithoutKing = occupancy & ~king;
+        long kingTargets = AttackTables.getKingAttacks(kingSquare) & (isCapturesOnly ? opponentPieces : ~ownPieces);
+
+        while(kingTargets != 0){
+            int to = Long.numberOfTrailingZeros(kingTargets);
+            kingTargets &= kingTargets - 1;
+
+            if(getAttackers(bitBoard, to, opponentColor, occupancyWithoutKing) == 0){
+                moves[moveCount++] = getMove(kingSquare, to, (opponentPieces & (1L << to)) != 0 ? CAPTURE : QUIET);
+            }
+        }
+
+        long checkers = getAttackers(bitBoard, kingSquare, opponentColor, occupancy);
+
+        // In double check only the King can move
+        if(Long.bitCount(checkers) > 1){
+            return moveCount;
+        }
+
+        // Squares other pieces may move to, in check they must capture the checker or block it
+        long checkMask = ~0L;
+        if(checkers != 0){
+            int checkerSquare = Long.numberOfTrailingZeros(checkers);
+            checkMask = checkers | AttackTables.getBetween(kingSquare, checkerSquare);
+        }
+
+        // Pieces pinned to the King may only move along the line of the pin
+        long pinned = getPinned(bitBoard, color, kingSquare);
+
+        long targets = (isCapturesOnly ? opponentPieces : ~ownPieces) & checkMask;
+
+        // Knights, a pinned Knight can never move
+        moveCount = addPieceMoves(bitBoard, PieceType.KNIGHT, color, occupancy, targets,
+                pinned, kingSquare, opponentPieces, moves, moveCount);
+        moveCount = addPieceMoves(bitBoard, PieceType.BISHOP, color, occupancy, targets,
+                pinned, kingSquare, opponentPieces, moves, moveCount);
+        moveCount = addPieceMoves(bitBoard, PieceType.ROOK, color, occupancy, targets,
+                pinned, kingSquare, opponentPieces, moves, moveCount);
+        moveCount = addPieceMoves(bitBoard, PieceType.QUEEN, color, occupancy, targets,
+                pinned, kingSquare, opponentPieces, moves, moveCount);
+
+        moveCount = addPawnMoves(bitBoard, color, occupancy, opponentPieces, checkMask,
+                pinned, kingSquare, isCapturesOnly, moves, moveCount);
+
+        if(checkers == 0 && !isCapturesOnly){
+            moveCount = addCastlingMoves(bitBoard, color, kingSquare, occupancy, moves, moveCount);
+        }
+
+        return moveCount;
+    }
+
+    /**
+     * Helper method for 'generateLegalMoves' that adds the moves of every
+     * Knight, Bishop, Rook or Queen of a color
+     */
+    private static int addPieceMoves(BitBoard bitBoard, PieceType type, PieceColor color, long occupancy,
+                                     long targets, long pinned, int kingSquare, long opponentPieces,
+                                     int[] moves, int moveCount){
+
+        long pieces = bitBoard.getPieceBitBoard(type, color);
+
+        while(pieces != 0){
+            int from = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+
+            long pieceTargets = getAttacks(type, from, occupancy) & targets;
+
+            if((pinned & (1L << from)) != 0){
+                pieceTargets &= AttackTables.getLine(kingSquare, from);
+            }
+
+            while(pieceTargets != 0){
+                int to = Long.numberOfTrailingZeros(pieceTargets);
+                pieceTargets &= pieceTargets - 1;
+
+                moves[moveCount++] = getMove(from, to, (opponentPieces & (1L << to)) != 0 ? CAPTURE : QUIET);
+            }
+        }
+
+        return moveCount;
+    }
+
+    /**
+     * Helper method for 'generateLegalMoves' that adds pushes, captures,
+     * promotions and en-passant captures of every Pawn of a color, only
+     * pushes that promote are added if isCapturesOnly is true
+     */
+    private static int addPawnMoves(BitBoard bitBoard, PieceColor color, long occupancy, long opponentPieces,
+                                    long checkMask, long pinned, int kingSquare, boolean isCapturesOnly,
+                                    int[] moves, int moveCount){
+
+        boolean isWhite = color == PieceColor.WHITE;
+        int forward = isWhite ? 8 : -8;
+        int startRow = isWhite ? 1 : 6;
+        long promotionRow = isWhite ? LAST_ROW : FIRST_ROW;
+
+        long pawns = bitBoard.getPieceBitBoard(PieceType.PAWN, color);
+
+        while(pawns != 0){
+            int from = Long.numberOfTrailingZeros(pawns);
+            pawns &= pawns - 1;
+
+            long pawnTargets = 0L;
+
+            // Pushes, a double push needs both squares empty
+            int oneForward = from + forward;
+            if((occupancy & (1L << oneForward)) == 0 &&
+                    (!isCapturesOnly || (promotionRow & (1L << oneForward)) != 0)){
+                pawnTargets |= 1L << oneForward;
+
+                int twoForward = oneForward + forward;
+                if(!isCapturesOnly && BitBoard.getRow(from) == startRow && (occupancy & (1L << twoForward)) == 0){
+                    pawnTargets |= 1L << twoForward;
+                }
+            }
+
+            pawnTargets |= AttackTables.getPawnAttacks(color, from) & opponentPieces;
+            pawnTargets &= checkMask;
+
+            if((pinned & (1L << from)) != 0){
+                pawnTargets &= AttackTables.getLine(kingSquare, from);
+            }
+
+            while(pawnTargets != 0){
+                int to = Long.numberOfTrailingZeros(pawnTargets);
+                pawnTargets &= pawnTargets - 1;
+
+                int flags = (opponentPieces & (1L << to)) != 0 ? CAPTURE : QUIET;
+
+                if((promotionRow & (1L << to)) != 0){
+                    for(int promotion = 0; promotion < PROMOTION_TYPES.length; ++promotion){
+                        moves[moveCount++] = getMove(from, to, flags | PROMOTION | promotion);
+                    }
+                }else if(Math.abs(to - from) == 16){
+                    moves[moveCount++] = getMove(from, to, DOUBLE_PAWN_PUSH);
+                }else{
+                    moves[moveCount++] = getMove(from, to, flags);
+                }
+            }
+        }
+
+        // En-passant, tested by removing both Pawns from the board since capturing can
+        // uncover a check along the row or diagonal of the King
+        int enPassantSquare = bitBoard.getEnPassantSquare();
+
+        if(enPassantSquare != BitBoard.NO_SQUARE && BitBoard.getRow(enPassantSquare) == (isWhite ? 5 : 2)){
+            int capturedSquare = enPassantSquare - forward;
+
+            long capturingPawns = AttackTables.getPawnAttacks(color.getOppositeColor(), enPassantSquare) &
+                    bitBoard.getPieceBitBoard(PieceType.PAWN, color);
+
+            while(capturingPawns != 0){
+                int from = Long.numberOfTrailingZeros(capturingPawns);
+                capturingPawns &= capturingPawns - 1;
+
+                long occupancyAfter = (occupancy & ~(1L << from) & ~(1L << capturedSquare)) |
+                        (1L << enPassantSquare);
+                long attackers = getAttackers(bitBoard, kingSquare, color.getOppositeColor(), occupancyAfter) &
+                        ~(1L << capturedSquare);
+
+                if(attackers == 0){
+                    moves[moveCount++] = getMove(from, enPassantSquare, EN_PASSANT);
+                }
+            }
+        }
+
+        return moveCount;
+    }
+
+    /**
+     * Helper method for 'generateLegalMoves' that adds castling moves, the
+     * King may not be in check, pass through or land on an attacked square
+     */
+    private static int addCastlingMoves(BitBoard bitBoard, PieceColor color, int kingSquare, long occupancy,
+                                        int[] moves, int moveCount){
+
+        boolean isWhite = color == PieceColor.WHITE;
+        int castlingRights = bitBoard.getCastlingRights();
+        int kingSideRight = isWhite ? BitBoard.WHITE_KING_SIDE_CASTLE : BitBoard.BLACK_KING_SIDE_CASTLE;
+        int queenSideRight = isWhite ? BitBoard.WHITE_QUEEN_SIDE_CASTLE : BitBoard.BLACK_QUEEN_SIDE_CASTLE;
+        int rookRow = isWhite ? 0 : 7;
+        PieceColor opponentColor = color.getOppositeColor();
+
+        long rooks = bitBoard.getPieceBitBoard(PieceType.ROOK, color);
+
+        if(kingSquare != BitBoard.getSquare(rookRow, 4)){
+            return moveCount;
+        }
+
+        if((castlingRights & kingSideRight) != 0 && (rooks & (1L << (kingSquare + 3))) != 0 &&
+                (occupancy & AttackTables.getBetween(kingSquare, kingSquare + 3)) == 0 &&
+                getAttackers(bitBoard, kingSquare + 1, opponentColor, occupancy) == 0 &&
+                getAttackers(bitBoard, kingSquare + 2, opponentColor, occupancy) == 0){
+            moves[moveCount++] = getMove(kingSquare, kingSquare + 2, KING_SIDE_CASTLE);
+        }
+
+        if((castlingRights & queenSideRight) != 0 && (rooks & (1L << (kingSquare - 4))) != 0 &&
+                (occupancy & AttackTables.getBetween(kingSquare, kingSquare - 4)) == 0 &&
+                getAttackers(bitBoard, kingSquare - 1, opponentColor, occupancy) == 0 &&
+                getAttackers(bitBoard, kingSquare - 2, opponentColor, occupancy) == 0){
+            moves[moveCount++] = getMove(kingSquare, kingSquare - 2, QUEEN_SIDE_CASTLE);
+        }
+
+        return moveCount;
+    }
+
+    /**
+     * Helper method for 'generateLegalMoves' that finds the pieces of a color
+     * pinned to its King, a pinned piece may only move along the line through
+     * its King and itself
+     *
+     * @return the set of pinned pieces
+     */
+    private static long getPinned(BitBoard bitBoard, PieceColor color, int kingSquare){
+
+        PieceColor opponentColor = color.getOppositeColor();
+        long ownPieces = bitBoard.getColorBitBoard(color);
+        long opponentQueens = bitBoard.getPieceBitBoard(PieceType.QUEEN, opponentColor);
+        long orthogonalSliders = bitBoard.getPieceBitBoard(PieceType.ROOK, opponentColor) | opponentQueens;
+        long diagonalSliders = bitBoard.getPieceBitBoard(PieceType.BISHOP, opponentColor) | opponentQueens;
+
+        // Sliders that would attack the King if only opponent pieces were on the board
+        long opponentPieces = bitBoard.getColorBitBoard(opponentColor);
+        long pinners = (AttackTables.getRookAttacks(kingSquare, opponentPieces) & orthogonalSliders) |
+                (AttackTables.getBishopAttacks(kingSquare, opponentPieces) & diagonalSliders);
+
+        long pinned = 0L;
+
+        while(pinners != 0){
+            int pinnerSquare = Long.numberOfTrailingZeros(pinners);
+            pinners &= pinners - 1;
+
+            long between = AttackTables.getBetween(kingSquare, pinnerSquare);
+            long blockers = between & bitBoard.getOccupancy();
+
+            // Exactly one piece in between and it is ours
+            if(Long.bitCount(blockers) == 1 && (blockers & ownPieces) != 0){
+                pinned |= blockers;
+            }
+        }
+
+        return pinned;
+    }
+
+    /**
+     * Method that gets the set of pieces of a color attacking a square
+     *
+     * @param bitBoard the position
+     * @param square the square attacked
+     * @param byColor the color of attacking pieces
+     * @param occupancy the occupied squares sliders are blocked by
+     * @return the set of attacking pieces
+     */
+    public static long getAttackers(BitBoard bitBoard, int square, PieceColor byColor, long occupancy){
+
+        long queens = bitBoard.getPieceBitBoard(PieceType.QUEEN, byColor);
+
+        return (AttackTables.getPawnAttacks(byColor.getOppositeColor(), square) &
+                        bitBoard.getPieceBitBoard(PieceType.PAWN, byColor)) |
+                (AttackTables.getKnightAttacks(square) & bitBoard.getPieceBitBoard(PieceType.KNIGHT, byColor)) |
+                (AttackTables.getKingAttacks(square) & bitBoard.getPieceBitBoard(PieceType.KING, byColor)) |
+                (AttackTables.getRookAttacks(square, occupancy) &
+                        (bitBoard.getPieceBitBoard(PieceType.ROOK, byColor) | queens)) |
+                (AttackTables.getBishopAttacks(square, occupancy) &
+                        (bitBoard.getPieceBitBoard(PieceType.BISHOP, byColor) | queens));
+    }
+
+    // Helper method for 'addPieceMoves' that gets the attacks of a piece that is not a Pawn
+    private static long getAttacks(PieceType type, int square, long occupancy){
+
+        switch (type){
+            case KNIGHT -> {return AttackTables.getKnightAttacks(square);}
+            case BISHOP -> {return AttackTables.getBishopAttacks(square, occupancy);}
+            case ROOK -> {return AttackTables.getRookAttacks(square, occupancy);}
+            case QUEEN -> {return AttackTables.getRookAttacks(square, occupancy) |
+                    AttackTables.getBishopAttacks(square, occupancy);}
+            default -> {return AttackTables.getKingAttacks(square);}
+        }
+    }
+}
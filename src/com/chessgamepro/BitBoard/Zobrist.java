@@ -0,0 +1,112 @@
+package com.chessgamepro.BitBoard;
+
+import com.chessgamepro.ChessPieces.PieceColor;
+
+import java.util.SplittableRandom;
+
+/**
+ * Class holding the random keys used for Zobrist hashing. The key of a
+ * position is the XOR of the keys of every piece on its square, the side
+ * key when Black is to move, the key of the castling rights and the key
+ * of the en-passant file, so every move changes it with a few XORs.
+ */
+public final class Zobrist {
+
+    // Fixed seed, keys are the same in every run so hashes can be stored
+    private static final long SEED = 0x2F6A3C1D5B4E7098L;
+
+    private static final long[] PIECE_KEYS = new long[BitBoard.PIECE_COUNT * BitBoard.SQUARE_COUNT];
+    private static final long[] CASTLING_KEYS = new long[BitBoard.ALL_CASTLES + 1];
+    private static final long[] EN_PASSANT_KEYS = new long[8];
+    private static final long SIDE_KEY;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        for(int i = 0; i < PIECE_KEYS.length; ++i){
+            PIECE_KEYS[i] = random.nextLong();
+        }
+
+        // No castling rights hash to zero, so a bare position has only piece keys
+        for(int i = 1; i < CASTLING_KEYS.length; ++i){
+            CASTLING_KEYS[i] = random.nextLong();
+        }
+
+        for(int i = 0; i < EN_PASSANT_KEYS.length; ++i){
+            EN_PASSANT_KEYS[i] = random.nextLong();
+        }
+
+        SIDE_KEY = random.nextLong();
+    }
+
+    /**
+     * Method for getting the key of a piece standing on a square
+     *
+     * @param piece the piece index
+     * @param square the square index
+     * @return the key of piece at square
+     */
+    public static long getPieceKey(int piece, int square){
+        return PIECE_KEYS[piece * BitBoard.SQUARE_COUNT + square];
+    }
+
+    /**
+     * Method for getting the key of a combination of castling rights
+     *
+     * @param castlingRights the castling rights, one bit per right
+     * @return the key of castling rights
+     */
+    public static long getCastlingKey(int castlingRights){
+        return CASTLING_KEYS[castlingRights];
+    }
+
+    /**
+     * Method for getting the key of an en-passant square, only the
+     * file of the square is hashed
+     *
+     * @param enPassantSquare the en-passant square
+     * @return the key of the en-passant file, 0 if there is no en-passant square
+     */
+    public static long getEnPassantKey(int enPassantSquare){
+
+        if(enPassantSquare == BitBoard.NO_SQUARE){
+            return 0L;
+        }
+
+        return EN_PASSANT_KEYS[BitBoard.getColumn(enPassantSquare)];
+    }
+
+    // Method for getting the key XORed in when Black is to move
+    public static long getSideKey(){
+        return SIDE_KEY;
+    }
+
+    /**
+     * Method that calculates the key of a position from scratch, used
+     * for checking keys that are updated incrementally
+     *
+     * @param bitBoard the given position
+     * @return the Zobrist key of position
+     */
+    public static long getKey(BitBoard bitBoard){
+
+        long key = 0L;
+
+        for(int square = 0; square < BitBoard.SQUARE_COUNT; ++square){
+            int piece = bitBoard.getPieceAtSquare(square);
+
+            if(piece != BitBoard.NO_PIECE){
+                key ^= getPieceKey(piece, square);
+            }
+        }
+
+        if(bitBoard.getSideToMove() == PieceColor.BLACK){
+            key ^= SIDE_KEY;
+        }
+
+        key ^= getCastlingKey(bitBoard.getCastlingRights());
+        key ^= getEnPassantKey(bitBoard.getEnPassantSquare());
+
+        return key;
+    }
+}
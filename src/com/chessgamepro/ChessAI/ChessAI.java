@@ -1,19 +1,22 @@
 package com.chessgamepro.ChessAI;
 
-import com.chessgamepro.ChessPieces.ChessPiece;
+import com.chessgamepro.BitBoard.BitBoard;
+import com.chessgamepro.BitBoard.BitBoardAdapter;
+import com.chessgamepro.BitBoard.MoveGenerator;
 import com.chessgamepro.ChessPieces.PieceColor;
 import com.chessgamepro.ChessPieces.PieceType;
-import com.chessgamepro.Game.Game;
 import com.chessgamepro.GameBoard.GameBoard;
 import com.chessgamepro.GameBoard.Move;
-import com.chessgamepro.GameBoard.MoveHelper;
 
-import javax.swing.*;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
 
-public class ChessAI extends SwingWorker<Move, Void> {
+/**
+ * Class that searches for the best move of a position. It uses only the
+ * engine core (BitBoard, GameBoard and the move generator), so it runs
+ * without any GUI classes, the GUI runs it in the background through
+ * ChessAIWorker.
+ */
+public class ChessAI {
 
     // Constants representing the value of each piece
     public static final int KING_VALUE = 1000;
@@ -23,197 +26,1170 @@ public class ChessAI extends SwingWorker<Move, Void> {
     public static final int KNIGHT_VALUE = 300;
     public static final int PAWN_VALUE = 100;
 
+    // Cached piece types, values() creates a new array on every call
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
     public static final int MAX = Integer.MAX_VALUE;
     public static final int MIN = Integer.MIN_VALUE;
 
-    private final Game game;
+    // Deepest iteration searched, time runs out long before it is reached
+    public static final int MAX_SEARCH_DEPTH = 64;
+
+    // A mate found n plies from the root scores MAX - n if White mates and MIN + n
+    // if Black mates, so shorter mates score better and their length is known.
+    // The range is far above any mate length, even through transpositions.
+    private static final int MATE_SCORE_RANGE = 1000;
+
+    // Constants describing the threads searching a position together
+    public static final int DEFAULT_THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+    public static final int MAX_THREAD_COUNT = 256;
+
+    // Number of nodes searched between two checks of time
+    private static final int TIME_CHECK_INTERVAL = 256;
+
+    // Constants describing the order moves are searched in, the higher the score
+    // the sooner a move is searched. Captures that lose material by static
+    // exchange evaluation come after quiet moves.
+    private static final int STORED_MOVE_SCORE = 1 << 30;
+    private static final int GOOD_CAPTURE_SCORE = 1 << 20;
+    private static final int QUIET_MOVE_SCORE = 0;
+    private static final int LOSING_CAPTURE_SCORE = -(1 << 20);
+
+    // Half width of the aspiration window around the score of the previous
+    // iteration, widened on every fail until it passes the limit and opens fully
+    private static final int ASPIRATION_WINDOW = 50;
+    private static final int MAX_ASPIRATION_WINDOW = 1000;
+
+    // Constants describing null move pruning, the reduction grows with depth.
+    // Below the verification material of the side to move a null move cutoff
+    // is verified, as passing may be better than any move (zugzwang).
+    private static final int NULL_MOVE_MIN_DEPTH = 3;
+    private static final int NULL_MOVE_REDUCTION = 2;
+    private static final int NULL_MOVE_DEPTH_DIVISOR = 4;
+    private static final int NULL_MOVE_VERIFICATION_MATERIAL = ROOK_VALUE;
+
+    // Constants describing late move reductions, late quiet moves are searched
+    // to a depth reduced by a table growing with the log of depth and move index
+    private static final int LATE_MOVE_REDUCTION_MIN_DEPTH = 3;
+    private static final double LATE_MOVE_REDUCTION_BASE = 0.75;
+    private static final double LATE_MOVE_REDUCTION_DIVISOR = 2.25;
+    private static final int[][] LATE_MOVE_REDUCTIONS = new int[MAX_SEARCH_DEPTH + 1][MoveGenerator.MAX_MOVES];
+
+    // Constants describing futility and reverse futility pruning near the leaves,
+    // the margin per ply of depth a quiet move is not expected to gain
+    private static final int FUTILITY_MAX_DEPTH = 3;
+    private static final int FUTILITY_MARGIN = 150;
+    private static final int REVERSE_FUTILITY_MAX_DEPTH = 3;
+    private static final int REVERSE_FUTILITY_MARGIN = 120;
+
+    static {
+        for(int depth = 1; depth <= MAX_SEARCH_DEPTH; ++depth){
+            for(int moveIndex = 1; moveIndex < MoveGenerator.MAX_MOVES; ++moveIndex){
+                LATE_MOVE_REDUCTIONS[depth][moveIndex] = (int) (LATE_MOVE_REDUCTION_BASE +
+                        Math.log(depth) * Math.log(moveIndex) / LATE_MOVE_REDUCTION_DIVISOR);
+            }
+        }
+    }
+
+    // Margin of delta pruning, a capture is skipped if even winning the captured
+    // piece and this margin cannot raise the score to the window
+    private static final int DELTA_MARGIN = 200;
+
     private final List<Move> moveList;
-    private final boolean isWhite;
-    private final int searchDepth;
+    private boolean isWhite;
+    private final TimeManager timeManager;
+
+    // Shared between searches, results of previous moves stay useful
+    private final TranspositionTable transpositionTable;
+
+    // One move buffer for every ply, filled and reused by 'miniMax'
+    private final int[][] moveBuffers = new int[MAX_SEARCH_DEPTH + 1][MoveGenerator.MAX_MOVES];
+
+    // Order scores of the moves in 'moveBuffers', index by index
+    private final int[][] moveScoreBuffers = new int[MAX_SEARCH_DEPTH + 1][MoveGenerator.MAX_MOVES];
+
+    // Move being searched at every ply, the previous move of the ply after it
+    private final int[] searchedMoves = new int[MAX_SEARCH_DEPTH + 1];
+
+    // Killer moves, history and countermoves quiet moves are ordered by
+    private final MoveOrderTables moveOrderTables = new MoveOrderTables();
 
+    // Counters of the current search, reused by every search of this ChessAI
+    private final SearchStatistics statistics = new SearchStatistics();
 
-    public ChessAI(Game game, List<Move> moveList, boolean isWhite,  int searchDepth){
-        this.game = game;
+    // Node count of the current search for other threads, published every time
+    // check and when the search ends, the counter itself is a plain field
+    private volatile long publishedNodeCount;
+
+    // Limits of the search besides time, unlimited by default
+    private int maxDepth = MAX_SEARCH_DEPTH;
+    private long nodeLimit = Long.MAX_VALUE;
+
+    private SearchListener searchListener = SearchListener.NONE;
+
+    // Searchers run on helper threads, each with its own board, tables and move stacks
+    private int threadCount = 1;
+    private ChessAI[] helperAIs = new ChessAI[0];
+
+    // True while a null move cutoff is verified, no null moves are made below it
+    private boolean isVerifyingNullMove;
+
+    // False until the main search completes its first iteration, helpers can always be stopped
+    private boolean isStoppable;
+
+    // Switches of the pruning of search, all on by default
+    private boolean isLateMoveReductionsEnabled = true;
+    private boolean isFutilityPruningEnabled = true;
+    private boolean isReverseFutilityPruningEnabled = true;
+
+    /**
+     * Constructor for ChessAI
+     *
+     * @param moveList the legal moves of the color searched for, the move
+     *                 returned by search is one of them
+     * @param isWhite true if the search is for White, false otherwise
+     * @param timeManager the time manager limiting the search
+     * @param transpositionTable the table shared between searches
+     */
+    public ChessAI(List<Move> moveList, boolean isWhite, TimeManager timeManager,
+                   TranspositionTable transpositionTable){
         this.moveList = moveList;
         this.isWhite = isWhite;
-        this.searchDepth = searchDepth;
+        this.timeManager = timeManager;
+        this.transpositionTable = transpositionTable;
 
     }
 
-    public Move getBestMove(){
+    /**
+     * Constructor for ChessAI that searches only BitBoards, the side
+     * searched for is the side to move of the searched board
+     *
+     * @param timeManager the time manager limiting the search
+     * @param transpositionTable the table shared between searches
+     */
+    public ChessAI(TimeManager timeManager, TranspositionTable transpositionTable){
+        this(List.of(), true, timeManager, transpositionTable);
+    }
 
-        GameBoard gameBoardCopy = game.getGameBoard().getCopy();
+    /**
+     * Method that searches the position on a game board, the search runs
+     * on a BitBoard copy so the GUI keeps drawing the original board
+     *
+     * @param gameBoard the board searched, left unchanged
+     * @return the move of the move list equivalent to the best move found
+     */
+    public Move search(GameBoard gameBoard){
 
-        Move bestMove = null;
-        int bestMoveScore = isWhite ? MIN : MAX;
+        BitBoard bitBoard = BitBoardAdapter.getBitBoard(gameBoard, isWhite ? PieceColor.WHITE : PieceColor.BLACK);
+        int bestMove = search(bitBoard);
 
-        for(Move move : moveList){
-            gameBoardCopy.makeMove(move);
+        // Packed moves are turned back into Move objects only here
+        Move move = BitBoardAdapter.findMove(moveList, bestMove);
+
+        return move != null || moveList.isEmpty() ? move : moveList.get(0);
+    }
 
-            int moveScore = miniMax(
-                    gameBoardCopy,
-                    MIN,
-                    MAX,
-                    searchDepth,
-                    isWhite
-            );
+    /**
+     * Method that searches the position on a BitBoard with iterative
+     * deepening, every iteration is one ply deeper than the previous one
+     * until the time manager runs out of time or a limit is reached. The
+     * first iteration is always completed, even if time is already up. With
+     * more than one thread, helper threads search the same position at the
+     * same time (Lazy SMP) and the calling thread reports the result.
+     *
+     * @param bitBoard the board searched for its side to move, moves are
+     *                 made and undone on it
+     * @return the best packed move of the last completed iteration, NO_MOVE
+     *         if there are no legal moves
+     */
+    public int search(BitBoard bitBoard){
 
-            // Debugging
-            System.out.println("AI move " + move + ", score is " + moveScore);
+        timeManager.start();
+        transpositionTable.newSearch();
+
+        Thread[] helperThreads = startHelperSearches(bitBoard);
+        int bestMove = iterativeDeepening(bitBoard, 1, true);
+        stopHelperSearches(helperThreads);
+
+        return bestMove;
+    }
+
+    /**
+     * Helper method for 'search' that starts the helper searchers of Lazy
+     * SMP. Every helper searches its own copy of board and shares only the
+     * transposition table. Every other helper, the first one included,
+     * starts one ply deeper so the threads do not all search the same depth
+     * at once.
+     *
+     * @return the started helper threads
+     */
+    private Thread[] startHelperSearches(BitBoard bitBoard){
+
+        if(helperAIs.length != threadCount - 1){
+            helperAIs = new ChessAI[threadCount - 1];
+
+            for(int i = 0; i < helperAIs.length; ++i){
+                helperAIs[i] = new ChessAI(new TimeManager(Long.MAX_VALUE), transpositionTable);
+            }
+        }
 
-            if(isWhite){
-                if(moveScore > bestMoveScore){
+        Thread[] helperThreads = new Thread[helperAIs.length];
 
-                    bestMoveScore = moveScore;
-                    bestMove = move;
+        for(int i = 0; i < helperAIs.length; ++i){
+            ChessAI helperAI = helperAIs[i];
+            BitBoard helperBitBoard = new BitBoard(bitBoard);
+            int firstDepth = i % 2 == 0 ? 2 : 1;
+
+            helperAI.maxDepth = maxDepth;
+            helperAI.isLateMoveReductionsEnabled = isLateMoveReductionsEnabled;
+            helperAI.isFutilityPruningEnabled = isFutilityPruningEnabled;
+            helperAI.isReverseFutilityPruningEnabled = isReverseFutilityPruningEnabled;
+
+            // Started here, so stopping the helper can never come before its start
+            helperAI.timeManager.start();
+            helperAI.publishedNodeCount = 0;
+
+            helperThreads[i] = new Thread(() -> helperAI.iterativeDeepening(helperBitBoard, firstDepth, false),
+                    "Search helper " + (i + 1));
+            helperThreads[i].setDaemon(true);
+            helperThreads[i].start();
+        }
+
+        return helperThreads;
+    }
+
+    // Helper method for 'search' that stops the helper searchers once the main search is done and waits for them
+    private void stopHelperSearches(Thread[] helperThreads){
+
+        for(ChessAI helperAI : helperAIs){
+            helperAI.stopSearch();
+        }
+
+        for(Thread helperThread : helperThreads){
+            try{
+                helperThread.join();
+            }catch(InterruptedException e){
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Helper method for 'search' that deepens the search of a position one
+     * ply per iteration until time runs out or a limit is reached
+     *
+     * @param bitBoard the board searched for its side to move
+     * @param firstDepth the depth of the first iteration
+     * @param isMainSearch true if iterations are reported, false for helpers
+     * @return the best packed move of the last completed iteration, NO_MOVE
+     *         if there are no legal moves
+     */
+    private int iterativeDeepening(BitBoard bitBoard, int firstDepth, boolean isMainSearch){
+
+        statistics.reset();
+        moveOrderTables.newSearch();
+        isVerifyingNullMove = false;
+        isStoppable = !isMainSearch;
+        isWhite = bitBoard.getSideToMove() == PieceColor.WHITE;
+
+        // Root moves are kept ordered with the best move of the previous iteration first
+        int[] rootMoves = new int[MoveGenerator.MAX_MOVES];
+        int rootMoveCount = MoveGenerator.generateLegalMoves(bitBoard,
+                isWhite ? PieceColor.WHITE : PieceColor.BLACK, rootMoves);
+
+        int bestMove = rootMoveCount == 0 ? MoveGenerator.NO_MOVE : rootMoves[0];
+        int previousScore = 0;
+
+        // The first iteration is always searched, time is only looked at after it
+        for(int depth = firstDepth; depth <= maxDepth && rootMoveCount > 0 &&
+                (!isStoppable || timeManager.canStartIteration()); ++depth){
+
+            // From the second iteration on the score is expected close to the previous one
+            int window = ASPIRATION_WINDOW;
+            int alpha = depth > firstDepth ? previousScore - window : MIN;
+            int beta = depth > firstDepth ? previousScore + window : MAX;
+            int score;
+
+            while(true){
+                score = searchRoot(bitBoard, rootMoves, rootMoveCount, alpha, beta, depth);
+
+                if(isStopped()){
+                    break;
                 }
-            }else{
-                if(moveScore < bestMoveScore){
 
-                    bestMoveScore = moveScore;
-                    bestMove = move;
+                // A score outside the window is only a bound, search again with a wider window
+                if(score <= alpha && alpha != MIN){
+                    window *= 4;
+                    alpha = window > MAX_ASPIRATION_WINDOW ? MIN : previousScore - window;
+                }else if(score >= beta && beta != MAX){
+                    window *= 4;
+                    beta = window > MAX_ASPIRATION_WINDOW ? MAX : previousScore + window;
+                }else{
+                    break;
                 }
             }
 
-            gameBoardCopy.undoMove();
+            // An iteration stopped midway is thrown away
+            if(isStopped()){
+                break;
+            }
+
+            bestMove = rootMoves[0];
+            previousScore = score;
+            isStoppable = true;
+
+            // Only the main search reports, helpers just fill the transposition table
+            if(isMainSearch){
+                statistics.completeIteration(depth, score, timeManager.getElapsedMillis(),
+                        getPrincipalVariation(bitBoard, bestMove, depth));
+                searchListener.iterationCompleted(statistics);
+            }
+
+            // No need to search deeper once a forced mate is found
+            if(isMateScore(score)){
+                break;
+            }
         }
 
+        publishedNodeCount = statistics.nodeCount;
+
         return bestMove;
     }
 
-    public static int miniMax(GameBoard gameBoard, int alpha, int beta, int depth, boolean isMaximizer){
+    /**
+     * Helper method for 'search' that searches the root moves with principal
+     * variation search. The first move is searched with the full window and
+     * every other move with a null window, only proving it is not better,
+     * and searched again with the full window if it is. The window narrows
+     * with every better move found and the best move is moved to the front.
+     *
+     * @param bitBoard the board searched, left unchanged
+     * @param rootMoves the legal moves of the root, the best one is first afterwards
+     * @param alpha the lower bound of the aspiration window
+     * @param beta the upper bound of the aspiration window
+     * @param depth the depth of iteration
+     * @return the score of the best move, only a bound if it is outside the window
+     */
+    private int searchRoot(BitBoard bitBoard, int[] rootMoves, int rootMoveCount, int alpha, int beta, int depth){
+
+        int bestScore = isWhite ? MIN : MAX;
+
+        for(int i = 0; i < rootMoveCount; ++i){
+            searchedMoves[0] = rootMoves[i];
+            MoveGenerator.makeMove(bitBoard, rootMoves[i]);
+
+            int score;
+
+            if(i == 0){
+                score = miniMax(bitBoard, alpha, beta, depth - 1, 1, !isWhite);
+            }else{
+                score = isWhite ?
+                        miniMax(bitBoard, alpha, alpha + 1, depth - 1, 1, false) :
+                        miniMax(bitBoard, beta - 1, beta, depth - 1, 1, true);
+
+                if(alpha < score && score < beta && !isStopped()){
+                    score = miniMax(bitBoard, alpha, beta, depth - 1, 1, !isWhite);
+                }
+            }
+
+            bitBoard.undoMove();
+
+            if(isStopped()){
+                break;
+            }
+
+            if(i == 0 || (isWhite ? score > bestScore : score < bestScore)){
+                bestScore = score;
+                moveToFront(rootMoves, i);
+
+                if(isWhite){
+                    alpha = Math.max(alpha, score);
+                }else{
+                    beta = Math.min(beta, score);
+                }
+            }
+
+            // The score is above the aspiration window, the search is repeated with a wider one
+            if(beta <= alpha){
+                break;
+            }
+        }
+
+        return bestScore;
+    }
+
+    // Helper method for 'searchRoot' that moves a root move to the front, keeping the order of the others
+    private static void moveToFront(int[] rootMoves, int index){
+
+        int move = rootMoves[index];
+        System.arraycopy(rootMoves, 0, rootMoves, 1, index);
+        rootMoves[0] = move;
+    }
+
+    /**
+     * Helper method for 'search' that follows the best moves stored in the
+     * transposition table from the root, the board is left unchanged
+     *
+     * @return the moves of the principal variation separated by spaces
+     */
+    private String getPrincipalVariation(BitBoard bitBoard, int rootMove, int depth){
+
+        StringBuilder principalVariation = new StringBuilder(MoveGenerator.toString(rootMove));
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int move = rootMove;
+        int movesMade = 0;
 
-        PieceColor oppositeColor = isMaximizer ? PieceColor.BLACK : PieceColor.WHITE;
+        while(move != MoveGenerator.NO_MOVE && movesMade < depth){
+            MoveGenerator.makeMove(bitBoard, move);
+            ++movesMade;
 
-        List<Move> oppositeColorMoves =
-                MoveHelper.getColorMoves(oppositeColor, gameBoard, true, true);
+            long entry = transpositionTable.probe(bitBoard.getZobristKey());
+            move = MoveGenerator.NO_MOVE;
 
-        if(oppositeColorMoves.size() == 0){
-            return isMaximizer ? MAX : MIN;
+            // A stored move is only followed if it is legal, keys of different positions may collide
+            if(entry != TranspositionTable.NO_ENTRY && movesMade < depth){
+                int moveCount = MoveGenerator.generateLegalMoves(bitBoard, bitBoard.getSideToMove(), moves);
+
+                for(int i = 0; i < moveCount; ++i){
+                    if(moves[i] == TranspositionTable.getMove(entry)){
+                        move = moves[i];
+                        principalVariation.append(' ').append(MoveGenerator.toString(move));
+                        break;
+                    }
+                }
+            }
+        }
+
+        for(int i = 0; i < movesMade; ++i){
+            bitBoard.undoMove();
         }
 
-        orderMoves(oppositeColorMoves, gameBoard);
+        return principalVariation.toString();
+    }
+
+    // Method that stops the search, the best move found so far is played
+    public void stopSearch(){
+        timeManager.stop();
+    }
+
+    /**
+     * Method for getting the number of positions visited by the last search,
+     * on all threads. It is called by the searching thread, from a
+     * SearchListener, or once the search is done. Helpers still searching
+     * are counted up to their last published count.
+     *
+     * @return the number of nodes
+     */
+    public long getNodeCount(){
+
+        long nodeCount = statistics.nodeCount;
+
+        for(ChessAI helperAI : helperAIs){
+            nodeCount += helperAI.publishedNodeCount;
+        }
 
+        return nodeCount;
+    }
+
+    // Method for getting the statistics of the last search
+    public SearchStatistics getStatistics(){
+        return statistics;
+    }
+
+    // Methods for setting the limits of search besides time
+    public void setMaxDepth(int newMaxDepth){
+        maxDepth = Math.max(1, Math.min(newMaxDepth, MAX_SEARCH_DEPTH));
+    }
+    public void setNodeLimit(long newNodeLimit){
+        nodeLimit = newNodeLimit;
+    }
+
+    // Methods for switching the pruning of search on and off
+    public void setLateMoveReductionsEnabled(boolean isEnabled){
+        isLateMoveReductionsEnabled = isEnabled;
+    }
+    public void setFutilityPruningEnabled(boolean isEnabled){
+        isFutilityPruningEnabled = isEnabled;
+    }
+    public void setReverseFutilityPruningEnabled(boolean isEnabled){
+        isReverseFutilityPruningEnabled = isEnabled;
+    }
+
+    // Method for setting the number of threads searching, the calling thread included
+    public void setThreadCount(int newThreadCount){
+        threadCount = Math.max(1, Math.min(newThreadCount, MAX_THREAD_COUNT));
+    }
+
+    // Method for setting the listener told about every completed iteration
+    public void setSearchListener(SearchListener newSearchListener){
+        searchListener = newSearchListener;
+    }
+
+    /**
+     * Method that searches a position with alpha-beta pruning, White is the
+     * maximizer and Black the minimizer. Moves are generated into the buffer
+     * of the ply, so no objects are created while searching.
+     *
+     * @param bitBoard the board searched, left unchanged when the method returns
+     * @param alpha the score the maximizer is already assured of
+     * @param beta the score the minimizer is already assured of
+     * @param depth the number of plies left to search
+     * @param ply the number of plies from the root
+     * @param isMaximizer true if White is to move, false otherwise
+     * @return the score of position, meaningless if the search was stopped
+     */
+    public int miniMax(BitBoard bitBoard, int alpha, int beta, int depth, int ply, boolean isMaximizer){
+
+        // Captures left at the horizon are resolved before the position is evaluated
         if(depth == 0){
-            return evaluateBoard(gameBoard);
+            return quiescence(bitBoard, alpha, beta, ply, isMaximizer);
+        }
+
+        if(isNodeLimitReached()){
+            return 0;
+        }
+
+        // Use a stored result of this position if it was searched deep enough
+        long key = bitBoard.getZobristKey();
+        long entry = transpositionTable.probe(key);
+        ++statistics.transpositionProbeCount;
+
+        if(entry != TranspositionTable.NO_ENTRY){
+            ++statistics.transpositionHitCount;
+        }
+
+        if(entry != TranspositionTable.NO_ENTRY && TranspositionTable.getDepth(entry) >= depth){
+            int storedScore = fromStoredScore(TranspositionTable.getScore(entry), ply);
+
+            switch (TranspositionTable.getBound(entry)){
+                case TranspositionTable.EXACT -> {
+                    transpositionTable.recordCutoff();
+                    ++statistics.transpositionCutoffCount;
+                    return storedScore;
+                }
+                case TranspositionTable.LOWER_BOUND -> alpha = Math.max(alpha, storedScore);
+                case TranspositionTable.UPPER_BOUND -> beta = Math.min(beta, storedScore);
+            }
+
+            if(beta <= alpha){
+                transpositionTable.recordCutoff();
+                ++statistics.transpositionCutoffCount;
+                return storedScore;
+            }
+        }
+
+        PieceColor colorToMove = isMaximizer ? PieceColor.WHITE : PieceColor.BLACK;
+
+        // Nodes searched with a null window only have to prove a bound, the pruning
+        // below is limited to them so a parent searching again uses the full depth
+        boolean isNullWindow = (long) beta - alpha == 1;
+        boolean isInCheck = bitBoard.isKingInCheck(colorToMove);
+        int staticEvaluation = evaluateBoard(bitBoard);
+
+        // Near the leaves a static evaluation far enough outside the window is trusted
+        if(isReverseFutilityPruningEnabled && isNullWindow && !isInCheck && depth <= REVERSE_FUTILITY_MAX_DEPTH){
+            int margin = REVERSE_FUTILITY_MARGIN * depth;
+
+            if(isMaximizer ? staticEvaluation - margin >= beta : staticEvaluation + margin <= alpha){
+                ++statistics.reverseFutilityCutoffCount;
+                return isMaximizer ? staticEvaluation - margin : staticEvaluation + margin;
+            }
         }
 
-        GameBoard gameBoardCopy = gameBoard.getCopy();
+        // If even passing keeps the score outside the window, no move is searched
+        if(isNullWindow && !isInCheck && (isMaximizer ? staticEvaluation >= beta : staticEvaluation <= alpha) &&
+                isNullMoveAllowed(bitBoard, depth, ply, colorToMove)){
+            int nullMoveDepth = Math.max(0, depth - 1 - NULL_MOVE_REDUCTION - depth / NULL_MOVE_DEPTH_DIVISOR);
+
+            searchedMoves[ply] = MoveGenerator.NO_MOVE;
+            bitBoard.makeNullMove();
+
+            int nullMoveScore = isMaximizer ?
+                    miniMax(bitBoard, beta - 1, beta, nullMoveDepth, ply + 1, false) :
+                    miniMax(bitBoard, alpha, alpha + 1, nullMoveDepth, ply + 1, true);
+
+            bitBoard.undoMove();
 
+            if((isMaximizer ? nullMoveScore >= beta : nullMoveScore <= alpha) && !isStopped()){
+
+                // A mate found after passing is not proven, only the bound is
+                if(isMateScore(nullMoveScore)){
+                    nullMoveScore = isMaximizer ? beta : alpha;
+                }
+
+                if(getNonPawnMaterial(bitBoard, colorToMove) > NULL_MOVE_VERIFICATION_MATERIAL){
+                    ++statistics.nullMoveCutoffCount;
+                    return nullMoveScore;
+                }
+
+                // With little material the position may be zugzwang, so the cutoff
+                // is trusted only if a reduced search without null moves confirms it
+                isVerifyingNullMove = true;
+                int verificationScore = miniMax(bitBoard, alpha, beta, nullMoveDepth, ply, isMaximizer);
+                isVerifyingNullMove = false;
+
+                if(isMaximizer ? verificationScore >= beta : verificationScore <= alpha){
+                    ++statistics.nullMoveCutoffCount;
+                    return nullMoveScore;
+                }
+            }
+        }
+
+        int[] moves = moveBuffers[ply];
+        int moveCount = MoveGenerator.generateLegalMoves(bitBoard, colorToMove, moves);
+
+        // Without legal moves the side to move is mated, or stalemated if not in check
+        if(moveCount == 0){
+            return isInCheck ? getMateScore(isMaximizer, ply) : 0;
+        }
+
+        // The best move stored for this position is searched first
+        int[] moveScores = moveScoreBuffers[ply];
+        scoreMoves(bitBoard, moves, moveScores, moveCount,
+                entry != TranspositionTable.NO_ENTRY ? TranspositionTable.getMove(entry) : MoveGenerator.NO_MOVE, ply);
+
+        int originalAlpha = alpha;
+        int originalBeta = beta;
+        int bestMove = MoveGenerator.NO_MOVE;
+
+        // Near the leaves quiet moves cannot lift a static evaluation this far below the window
+        int futilityMargin = FUTILITY_MARGIN * depth;
+        boolean isFutile = isFutilityPruningEnabled && isNullWindow && !isInCheck && depth <= FUTILITY_MAX_DEPTH &&
+                (isMaximizer ? staticEvaluation + futilityMargin <= alpha : staticEvaluation - futilityMargin >= beta);
+
+        // Moves are made and undone on the given board, every move must be
+        // undone before leaving so the caller gets its position back
         if(isMaximizer) {
             int maxEvaluation = MIN;
 
-            for (Move move : oppositeColorMoves) {
-                gameBoardCopy.makeMove(move);
+            for (int i = 0; i < moveCount; ++i) {
+                selectMove(moves, moveScores, i, moveCount);
+                searchedMoves[ply] = moves[i];
+                MoveGenerator.makeMove(bitBoard, moves[i]);
+
+                boolean isLateQuietMove = isLateQuietMove(bitBoard, moves[i], i, isInCheck);
+
+                // A pruned move could still score up to the margin, so the returned bound includes it
+                if(isLateQuietMove && isFutile){
+                    ++statistics.futilityPrunedMoveCount;
+                    maxEvaluation = Math.max(maxEvaluation, staticEvaluation + futilityMargin);
+                    bitBoard.undoMove();
+                    continue;
+                }
 
-                int evaluation = miniMax(gameBoardCopy, alpha, beta, depth - 1, false);
-                maxEvaluation = Math.max(maxEvaluation, evaluation);
+                int evaluation = searchChild(bitBoard, alpha, beta, depth, ply, false, i == 0,
+                        isLateQuietMove ? getLateMoveReduction(depth, i) : 0);
+                if(evaluation > maxEvaluation || bestMove == MoveGenerator.NO_MOVE){
+                    maxEvaluation = evaluation;
+                    bestMove = moves[i];
+                }
                 alpha = Math.max(alpha, evaluation);
 
-                // Debugging
-                //System.out.println("Black move " + move.toString() + " evaluated. Score is " + evaluation);
+                bitBoard.undoMove();
 
                 if(beta <= alpha){
+                    recordBetaCutoff(bitBoard, moves[i], i, depth, ply);
+                    break;
+                }
+                if(isStopped()){
                     break;
                 }
-
-                gameBoardCopy.undoMove();
             }
+            storeResult(key, depth, ply, maxEvaluation, originalAlpha, originalBeta, bestMove);
             return maxEvaluation;
         }else {
             int minEvaluation = MAX;
 
-            for (Move move : oppositeColorMoves) {
-                gameBoardCopy.makeMove(move);
+            for (int i = 0; i < moveCount; ++i) {
+                selectMove(moves, moveScores, i, moveCount);
+                searchedMoves[ply] = moves[i];
+                MoveGenerator.makeMove(bitBoard, moves[i]);
+
+                boolean isLateQuietMove = isLateQuietMove(bitBoard, moves[i], i, isInCheck);
 
-                int evaluation = miniMax(gameBoardCopy, alpha, beta, depth - 1, true);
-                minEvaluation = Math.min(minEvaluation, evaluation);
+                if(isLateQuietMove && isFutile){
+                    ++statistics.futilityPrunedMoveCount;
+                    minEvaluation = Math.min(minEvaluation, staticEvaluation - futilityMargin);
+                    bitBoard.undoMove();
+                    continue;
+                }
+
+                int evaluation = searchChild(bitBoard, alpha, beta, depth, ply, true, i == 0,
+                        isLateQuietMove ? getLateMoveReduction(depth, i) : 0);
+                if(evaluation < minEvaluation || bestMove == MoveGenerator.NO_MOVE){
+                    minEvaluation = evaluation;
+                    bestMove = moves[i];
+                }
                 beta = Math.min(beta, evaluation);
 
-                // Debugging
-                //System.out.println("White move " + move.toString() + " evaluated. Score is " + evaluation);
+                bitBoard.undoMove();
 
                 if(beta <= alpha){
+                    recordBetaCutoff(bitBoard, moves[i], i, depth, ply);
+                    break;
+                }
+                if(isStopped()){
                     break;
                 }
-
-                gameBoardCopy.undoMove();
             }
+            storeResult(key, depth, ply, minEvaluation, originalAlpha, originalBeta, bestMove);
             return minEvaluation;
         }
     }
-    private static int evaluateBoard(GameBoard gameBoard){
 
-        int boardScore = 0;
+    /**
+     * Helper method for 'miniMax' that checks if a null move may be tried at
+     * a null window node not in check. Passing is not allowed too close to
+     * the leaves, right after another null move, during verification of a
+     * null move cutoff or if the side to move has only Pawns left (zugzwang).
+     */
+    private boolean isNullMoveAllowed(BitBoard bitBoard, int depth, int ply, PieceColor colorToMove){
+        return depth >= NULL_MOVE_MIN_DEPTH && !isVerifyingNullMove &&
+                searchedMoves[ply - 1] != MoveGenerator.NO_MOVE && getNonPawnMaterial(bitBoard, colorToMove) > 0;
+    }
+
+    /**
+     * Helper method for 'miniMax' that checks if a made move is a late quiet
+     * move, one that may be reduced or pruned. The first move, captures,
+     * promotions, moves out of check and moves giving check are never late.
+     *
+     * @param bitBoard the board with the move made
+     * @param move the packed move
+     * @param moveIndex the index of move in the order it is searched
+     * @param isInCheck true if the side that made the move was in check
+     * @return true if the move is a late quiet move, false otherwise
+     */
+    private static boolean isLateQuietMove(BitBoard bitBoard, int move, int moveIndex, boolean isInCheck){
+        return moveIndex > 0 && !isInCheck && !MoveGenerator.isCapture(move) && !MoveGenerator.isPromotion(move) &&
+                !bitBoard.isKingInCheck(bitBoard.getSideToMove());
+    }
 
-        for(ChessPiece piece : gameBoard.getAllPieces()){
-            if(piece.getColor() == PieceColor.WHITE){
-                boardScore += getPieceValue(piece);
-            }else {
-                boardScore -= getPieceValue(piece);
+    // Helper method for 'miniMax' that gets the reduction of a late quiet move, leaving at least one ply to search
+    private int getLateMoveReduction(int depth, int moveIndex){
+
+        if(!isLateMoveReductionsEnabled || depth < LATE_MOVE_REDUCTION_MIN_DEPTH){
+            return 0;
+        }
+
+        return Math.min(LATE_MOVE_REDUCTIONS[depth][moveIndex], depth - 2);
+    }
+
+    // Helper method that gets the value of all pieces of a color besides the King and Pawns
+    private static int getNonPawnMaterial(BitBoard bitBoard, PieceColor color){
+        return Long.bitCount(bitBoard.getPieceBitBoard(PieceType.QUEEN, color)) * QUEEN_VALUE +
+                Long.bitCount(bitBoard.getPieceBitBoard(PieceType.ROOK, color)) * ROOK_VALUE +
+                Long.bitCount(bitBoard.getPieceBitBoard(PieceType.BISHOP, color)) * BISHOP_VALUE +
+                Long.bitCount(bitBoard.getPieceBitBoard(PieceType.KNIGHT, color)) * KNIGHT_VALUE;
+    }
+
+    /**
+     * Helper method for 'miniMax' that searches a child position with
+     * principal variation search. The first move is expected to be the best,
+     * so the others are searched with a null window that only proves they
+     * are not better than it, and searched again with the full window when
+     * they are. A reduced move that fails high is first searched again with
+     * the null window to the full depth.
+     *
+     * @param bitBoard the board with the move made
+     * @param alpha the score the maximizer is already assured of
+     * @param beta the score the minimizer is already assured of
+     * @param depth the remaining depth of the parent
+     * @param ply the number of plies from the root to the parent
+     * @param isMaximizer true if White is to move in the child, false otherwise
+     * @param isFirstMove true if the move is the first one searched
+     * @param reduction the plies the null window search is reduced by
+     * @return the score of child position
+     */
+    private int searchChild(BitBoard bitBoard, int alpha, int beta, int depth, int ply,
+                            boolean isMaximizer, boolean isFirstMove, int reduction){
+
+        if(isFirstMove){
+            return miniMax(bitBoard, alpha, beta, depth - 1, ply + 1, isMaximizer);
+        }
+
+        int evaluation = searchNullWindow(bitBoard, alpha, beta, depth - 1 - reduction, ply, isMaximizer);
+
+        if(reduction > 0){
+            ++statistics.reducedMoveCount;
+
+            // The parent is the maximizer if the child is not, it fails high above alpha
+            if((isMaximizer ? evaluation < beta : evaluation > alpha) && !isStopped()){
+                evaluation = searchNullWindow(bitBoard, alpha, beta, depth - 1, ply, isMaximizer);
             }
         }
-        return boardScore;
+
+        if(alpha < evaluation && evaluation < beta && !isStopped()){
+            evaluation = miniMax(bitBoard, alpha, beta, depth - 1, ply + 1, isMaximizer);
+        }
+
+        return evaluation;
+    }
+
+    // Helper method for 'searchChild' that searches a child with the null window of its parent, alpha for the maximizer
+    private int searchNullWindow(BitBoard bitBoard, int alpha, int beta, int childDepth, int ply, boolean isMaximizer){
+        return isMaximizer ?
+                miniMax(bitBoard, beta - 1, beta, childDepth, ply + 1, true) :
+                miniMax(bitBoard, alpha, alpha + 1, childDepth, ply + 1, false);
     }
 
-    private static int getPieceValue(ChessPiece piece){
+    /**
+     * Method that searches only captures and promotions until the position
+     * is quiet, so it is never evaluated in the middle of an exchange. The
+     * side to move may stand pat on the static evaluation instead of
+     * capturing, captures that lose material by static exchange evaluation
+     * and captures that cannot reach the window even by winning the
+     * captured piece are skipped (delta pruning). In check every evasion is
+     * searched, so mates at the horizon are still found.
+     *
+     * @param bitBoard the board searched, left unchanged when the method returns
+     * @param alpha the score the maximizer is already assured of
+     * @param beta the score the minimizer is already assured of
+     * @param ply the number of plies from the root
+     * @param isMaximizer true if White is to move, false otherwise
+     * @return the score of position, meaningless if the search was stopped
+     */
+    private int quiescence(BitBoard bitBoard, int alpha, int beta, int ply, boolean isMaximizer){
 
-        if(piece == null){
+        ++statistics.quiescenceNodeCount;
+
+        if(isNodeLimitReached()){
             return 0;
         }
 
-        switch (piece.getType()){
-            case KING -> {return KING_VALUE;}
-            case QUEEN -> {return QUEEN_VALUE;}
-            case BISHOP -> {return BISHOP_VALUE;}
-            case ROOK -> {return ROOK_VALUE;}
-            case KNIGHT -> {return KNIGHT_VALUE;}
-            default -> {return PAWN_VALUE;}
+        PieceColor colorToMove = isMaximizer ? PieceColor.WHITE : PieceColor.BLACK;
+        int kingSquare = Long.numberOfTrailingZeros(bitBoard.getPieceBitBoard(PieceType.KING, colorToMove));
+        boolean isInCheck = MoveGenerator.getAttackers(bitBoard, kingSquare, colorToMove.getOppositeColor(),
+                bitBoard.getOccupancy()) != 0;
+
+        int standPat = evaluateBoard(bitBoard);
+
+        if(ply >= MAX_SEARCH_DEPTH){
+            return standPat;
+        }
+
+        int[] moves = moveBuffers[ply];
+        int moveCount;
+
+        if(isInCheck){
+            moveCount = MoveGenerator.generateLegalMoves(bitBoard, colorToMove, moves);
+
+            if(moveCount == 0){
+                return getMateScore(isMaximizer, ply);
+            }
+        }else{
+            // Not capturing is always possible, so the score is at least the static evaluation
+            if(isMaximizer ? standPat >= beta : standPat <= alpha){
+                return standPat;
+            }
+            if(isMaximizer){
+                alpha = Math.max(alpha, standPat);
+            }else{
+                beta = Math.min(beta, standPat);
+            }
+
+            moveCount = MoveGenerator.generateLegalCaptures(bitBoard, colorToMove, moves);
+        }
+
+        int[] moveScores = moveScoreBuffers[ply];
+        scoreMoves(bitBoard, moves, moveScores, moveCount, MoveGenerator.NO_MOVE, ply);
+
+        int bestEvaluation = isInCheck ? (isMaximizer ? MIN : MAX) : standPat;
+
+        for(int i = 0; i < moveCount; ++i){
+            selectMove(moves, moveScores, i, moveCount);
+            int move = moves[i];
+
+            if(!isInCheck){
+                // Captures losing material are left, and every capture after them loses too
+                if(moveScores[i] < QUIET_MOVE_SCORE){
+                    break;
+                }
+
+                int gain = getCaptureGain(bitBoard, move) + DELTA_MARGIN;
+
+                // The skipped capture could still score up to the gain, so the returned bound includes it
+                if(isMaximizer && standPat + gain <= alpha){
+                    bestEvaluation = Math.max(bestEvaluation, standPat + gain);
+                    continue;
+                }
+                if(!isMaximizer && standPat - gain >= beta){
+                    bestEvaluation = Math.min(bestEvaluation, standPat - gain);
+                    continue;
+                }
+            }
+
+            searchedMoves[ply] = move;
+            MoveGenerator.makeMove(bitBoard, move);
+            int evaluation = quiescence(bitBoard, alpha, beta, ply + 1, !isMaximizer);
+            bitBoard.undoMove();
+
+            if(isMaximizer){
+                bestEvaluation = Math.max(bestEvaluation, evaluation);
+                alpha = Math.max(alpha, evaluation);
+            }else{
+                bestEvaluation = Math.min(bestEvaluation, evaluation);
+                beta = Math.min(beta, evaluation);
+            }
+
+            if(beta <= alpha){
+                recordBetaCutoff(i);
+                break;
+            }
+            if(isStopped()){
+                break;
+            }
+        }
+
+        return bestEvaluation;
+    }
+
+    /**
+     * Helper method for 'miniMax' and 'quiescence' that scores moves for
+     * ordering. Captures and promotions are ordered by the most valuable
+     * victim first and, between equal victims, by the least valuable attacker
+     * first (MVV-LVA). Quiet moves are ordered by killer moves, countermoves
+     * and history. Captures losing material by static exchange evaluation
+     * are scored below quiet moves.
+     *
+     * @param storedMove the move stored in the transposition table, searched first
+     * @param ply the number of plies from the root, at least 1
+     */
+    private void scoreMoves(BitBoard bitBoard, int[] moves, int[] moveScores, int moveCount, int storedMove, int ply){
+
+        int previousMove = searchedMoves[ply - 1];
+
+        for(int i = 0; i < moveCount; ++i){
+            int move = moves[i];
+
+            if(move == storedMove){
+                moveScores[i] = STORED_MOVE_SCORE;
+
+            }else if(MoveGenerator.isCapture(move) || MoveGenerator.isPromotion(move)){
+                int gain = getCaptureGain(bitBoard, move);
+                int attackerValue = getPieceValue(
+                        BitBoard.getPieceType(bitBoard.getPieceAtSquare(MoveGenerator.getFrom(move))));
+
+                // Taking a piece worth at least the attacker never loses material
+                boolean isGoodCapture = gain >= attackerValue || StaticExchange.isAtLeast(bitBoard, move, 0);
+
+                moveScores[i] = (isGoodCapture ? GOOD_CAPTURE_SCORE : LOSING_CAPTURE_SCORE) +
+                        gain * 16 - attackerValue / PAWN_VALUE;
+
+            }else{
+                moveScores[i] = QUIET_MOVE_SCORE + moveOrderTables.getQuietMoveScore(bitBoard, move, ply, previousMove);
+            }
         }
     }
 
-    private static void orderMoves(List<Move> moveList, GameBoard gameBoard){
-        int counter = 0;
+    /**
+     * Helper method for 'miniMax' and 'quiescence' that moves the best scored
+     * of the moves not searched yet to the given index. Moves are selected one
+     * at a time, so a node cut off by its first move never sorts the rest.
+     *
+     * @param index the index of the next move searched
+     */
+    private static void selectMove(int[] moves, int[] moveScores, int index, int moveCount){
 
-        for(int i = 0; i < moveList.size(); ++i){
-            Move move = moveList.get(i);
-            if(move.getIsCapture() && gameBoard.getPieceAtSquare(move.getFrom()).getType() == PieceType.PAWN){
-                switchMoves(moveList, counter, i);
-                ++counter;
+        int bestIndex = index;
 
-            }else if(move.getIsPromotion()){
-                switchMoves(moveList, counter, i);
-                ++counter;
+        for(int i = index + 1; i < moveCount; ++i){
+            if(moveScores[i] > moveScores[bestIndex]){
+                bestIndex = i;
+            }
+        }
+
+        if(bestIndex != index){
+            int move = moves[index];
+            moves[index] = moves[bestIndex];
+            moves[bestIndex] = move;
+
+            int moveScore = moveScores[index];
+            moveScores[index] = moveScores[bestIndex];
+            moveScores[bestIndex] = moveScore;
+        }
+    }
+
+    /**
+     * Helper method for 'quiescence' that gets the material a move can win,
+     * the value of captured piece and the gain of a promotion
+     */
+    private static int getCaptureGain(BitBoard bitBoard, int move){
+
+        int gain = 0;
+
+        if(MoveGenerator.getFlags(move) == MoveGenerator.EN_PASSANT){
+            gain = PAWN_VALUE;
+        }else if(MoveGenerator.isCapture(move)){
+            gain = getPieceValue(BitBoard.getPieceType(bitBoard.getPieceAtSquare(MoveGenerator.getTo(move))));
+        }
 
+        if(MoveGenerator.isPromotion(move)){
+            gain += getPieceValue(MoveGenerator.getPromotedPieceType(move)) - PAWN_VALUE;
+        }
+
+        return gain;
+    }
+
+    /**
+     * Helper method for 'miniMax' and 'quiescence' that counts a node and
+     * stops the search once the node limit or the time is reached
+     *
+     * @return true if the search is stopped, false otherwise
+     */
+    private boolean isNodeLimitReached(){
+
+        long nodeCount = ++statistics.nodeCount;
+
+        if(nodeCount % TIME_CHECK_INTERVAL == 0){
+            publishedNodeCount = nodeCount;
+
+            if(nodeCount >= nodeLimit){
+                timeManager.stop();
             }
+            timeManager.isTimeUp();
+        }
+
+        return isStopped();
+    }
+
+    /**
+     * Helper method that checks if the search was stopped. The main search
+     * cannot be stopped before its first iteration completes, so there is
+     * always a searched move to play, however short the time is.
+     *
+     * @return true if the search is stopped, false otherwise
+     */
+    private boolean isStopped(){
+        return isStoppable && timeManager.isStopped();
+    }
+
+    /**
+     * Helper method for 'miniMax' that counts a cutoff and, if the move that
+     * caused it is quiet, teaches it to the move order tables
+     *
+     * @param bitBoard the position the move was made in
+     * @param move the move that caused the cutoff
+     * @param moveIndex the index of move in the order it was searched
+     * @param depth the remaining depth
+     * @param ply the number of plies from the root
+     */
+    private void recordBetaCutoff(BitBoard bitBoard, int move, int moveIndex, int depth, int ply){
+
+        recordBetaCutoff(moveIndex);
 
+        if(!MoveGenerator.isCapture(move) && !MoveGenerator.isPromotion(move)){
+            moveOrderTables.recordCutoff(bitBoard, move, depth, ply, searchedMoves[ply - 1]);
         }
+    }
+
+    // Helper method for 'miniMax' and 'quiescence' that counts a cutoff, and if it was made by the first move searched
+    private void recordBetaCutoff(int moveIndex){
+        ++statistics.betaCutoffCount;
+
+        if(moveIndex == 0){
+            ++statistics.firstMoveBetaCutoffCount;
+        }
+    }
+
+    /**
+     * Helper method for 'miniMax' that stores the result of a searched
+     * position, the bound type follows from the window it was searched with
+     */
+    private void storeResult(long key, int depth, int ply, int score, int alpha, int beta, int bestMove){
+
+        // Scores of a stopped search are incomplete
+        if(isStopped()){
+            return;
+        }
+
+        int bound;
+
+        if(score <= alpha){
+            bound = TranspositionTable.UPPER_BOUND;
+        }else if(score >= beta){
+            bound = TranspositionTable.LOWER_BOUND;
+        }else{
+            bound = TranspositionTable.EXACT;
+        }
+
+        transpositionTable.store(key, depth, bound, toStoredScore(score, ply), bestMove);
+    }
+
+    // Helper method that gets the score of the side to move being mated at a ply
+    private static int getMateScore(boolean isMaximizer, int ply){
+        return isMaximizer ? MIN + ply : MAX - ply;
+    }
+
+    // Method that checks if a score is a mate found by the search
+    public static boolean isMateScore(int score){
+        return score >= MAX - MATE_SCORE_RANGE || score <= MIN + MATE_SCORE_RANGE;
+    }
 
+    /**
+     * Method that gets the number of plies from the root to the mate of a
+     * mate score, the mating move included
+     *
+     * @param score the mate score
+     * @return the number of plies
+     */
+    public static int getMatePlies(int score){
+        return score > 0 ? MAX - score : score - MIN;
     }
 
-    private static void switchMoves(List<Move> moveList, int index1, int index2){
-        Move temp = moveList.get(index1);
-        moveList.set(index1, moveList.get(index2));
-        moveList.set(index2, temp);
+    /**
+     * Helper method for 'storeResult' that makes a mate score relative to the
+     * stored position instead of the root, the same position may be reached
+     * at another ply later
+     */
+    private static int toStoredScore(int score, int ply){
 
+        if(!isMateScore(score)){
+            return score;
+        }
+        return score > 0 ? score + ply : score - ply;
     }
 
-    @Override
-    protected Move doInBackground() throws Exception {
-        return getBestMove();
+    // Helper method for 'miniMax' that makes a stored mate score relative to the root again
+    private static int fromStoredScore(int storedScore, int ply){
+
+        if(!isMateScore(storedScore)){
+            return storedScore;
+        }
+        return storedScore > 0 ? storedScore - ply : storedScore + ply;
     }
 
-    @Override
-    protected void done() {
-        try{
-            Move AIMove = get();
+    /**
+     * Method that evaluates a position by material, from the side of White
+     *
+     * @param bitBoard the position evaluated
+     * @return the score, positive if White is ahead
+     */
+    public static int evaluateBoard(BitBoard bitBoard){
+
+        int boardScore = 0;
 
-            game.makeMove(AIMove);
+        // Count pieces of every type straight from the piece sets
+        for(PieceType type : PIECE_TYPES){
+            int pieceCountDifference =
+                    Long.bitCount(bitBoard.getPieceBitBoard(type, PieceColor.WHITE)) -
+                    Long.bitCount(bitBoard.getPieceBitBoard(type, PieceColor.BLACK));
 
-        } catch (ExecutionException e) {
-            throw new RuntimeException(e);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
+            boardScore += pieceCountDifference * getPieceValue(type);
+        }
+        return boardScore;
+    }
+
+    // Method for getting the value of a piece type, used by static exchange evaluation
+    static int getPieceValue(PieceType type){
+
+        switch (type){
+            case KING -> {return KING_VALUE;}
+            case QUEEN -> {return QUEEN_VALUE;}
+            case BISHOP -> {return BISHOP_VALUE;}
+            case ROOK -> {return ROOK_VALUE;}
+            case KNIGHT -> {return KNIGHT_VALUE;}
+            default -> {return PAWN_VALUE;}
         }
     }
 }
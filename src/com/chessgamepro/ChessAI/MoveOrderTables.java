@@ -0,0 +1,123 @@
+package com.chessgamepro.ChessAI;
+
+import com.chessgamepro.BitBoard.BitBoard;
+import com.chessgamepro.BitBoard.MoveGenerator;
+
+import java.util.Arrays;
+
+/**
+ * Class holding the tables quiet moves are ordered by, all of them learned
+ * from quiet moves that caused a beta cutoff:
+ * <ul>
+ *     <li>killer moves, two per ply, cut off in a sibling position</li>
+ *     <li>history, a score for every color, from and to square (butterfly table)</li>
+ *     <li>countermoves, the reply that cut off after a piece moved to a square</li>
+ * </ul>
+ * Every ChessAI owns its tables, so the searching thread never shares them.
+ */
+class MoveOrderTables {
+
+    // Constants describing the scores of quiet moves, all of them below good captures
+    static final int FIRST_KILLER_SCORE = 1 << 19;
+    static final int SECOND_KILLER_SCORE = FIRST_KILLER_SCORE - 1;
+    static final int COUNTER_MOVE_SCORE = FIRST_KILLER_SCORE - 2;
+
+    // History scores are halved once one of them grows past this limit
+    private static final int HISTORY_LIMIT = 1 << 16;
+
+    private static final int SQUARE_COUNT = BitBoard.SQUARE_COUNT;
+
+    private final int[][] killerMoves = new int[ChessAI.MAX_SEARCH_DEPTH + 1][2];
+    private final int[][] historyScores = new int[2][SQUARE_COUNT * SQUARE_COUNT];
+    private final int[] counterMoves = new int[BitBoard.PIECE_COUNT * SQUARE_COUNT];
+
+    /**
+     * Method that prepares the tables for a new search, killer moves belong
+     * to positions of the last search and are cleared while history and
+     * countermoves are kept with history halved
+     */
+    void newSearch(){
+
+        for(int[] plyKillerMoves : killerMoves){
+            Arrays.fill(plyKillerMoves, MoveGenerator.NO_MOVE);
+        }
+        ageHistory();
+    }
+
+    /**
+     * Method that gets the order score of a quiet move
+     *
+     * @param bitBoard the position the move is made in
+     * @param move the packed quiet move
+     * @param ply the number of plies from the root
+     * @param previousMove the move that led to the position, NO_MOVE at the root
+     * @return the score, the higher the sooner the move is searched
+     */
+    int getQuietMoveScore(BitBoard bitBoard, int move, int ply, int previousMove){
+
+        if(move == killerMoves[ply][0]){
+            return FIRST_KILLER_SCORE;
+        }
+        if(move == killerMoves[ply][1]){
+            return SECOND_KILLER_SCORE;
+        }
+        if(previousMove != MoveGenerator.NO_MOVE && move == counterMoves[getCounterMoveIndex(bitBoard, previousMove)]){
+            return COUNTER_MOVE_SCORE;
+        }
+
+        return historyScores[bitBoard.getSideToMove().ordinal()][getButterflyIndex(move)];
+    }
+
+    /**
+     * Method that learns from a quiet move that caused a beta cutoff
+     *
+     * @param bitBoard the position the move was made in
+     * @param move the packed quiet move
+     * @param depth the remaining depth of the cutoff, deeper cutoffs weigh more
+     * @param ply the number of plies from the root
+     * @param previousMove the move that led to the position, NO_MOVE at the root
+     */
+    void recordCutoff(BitBoard bitBoard, int move, int depth, int ply, int previousMove){
+
+        if(killerMoves[ply][0] != move){
+            killerMoves[ply][1] = killerMoves[ply][0];
+            killerMoves[ply][0] = move;
+        }
+
+        if(previousMove != MoveGenerator.NO_MOVE){
+            counterMoves[getCounterMoveIndex(bitBoard, previousMove)] = move;
+        }
+
+        int[] colorHistory = historyScores[bitBoard.getSideToMove().ordinal()];
+        int butterflyIndex = getButterflyIndex(move);
+
+        colorHistory[butterflyIndex] += depth * depth;
+
+        if(colorHistory[butterflyIndex] > HISTORY_LIMIT){
+            ageHistory();
+        }
+    }
+
+    // Helper method that halves every history score, so old cutoffs fade
+    private void ageHistory(){
+
+        for(int[] colorHistory : historyScores){
+            for(int i = 0; i < colorHistory.length; ++i){
+                colorHistory[i] >>= 1;
+            }
+        }
+    }
+
+    // Helper method that gets the index of a move in the butterfly table
+    private static int getButterflyIndex(int move){
+        return MoveGenerator.getFrom(move) * SQUARE_COUNT + MoveGenerator.getTo(move);
+    }
+
+    // Helper method that gets the countermove index of a previous move, the moved piece and its square
+    private static int getCounterMoveIndex(BitBoard bitBoard, int previousMove){
+
+        int to = MoveGenerator.getTo(previousMove);
+
+        return bitBoard.getPieceAtSquare(to) * SQUARE_COUNT + to;
+    }
+}
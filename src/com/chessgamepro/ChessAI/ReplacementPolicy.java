@@ -0,0 +1,17 @@
+package com.chessgamepro.ChessAI;
+
+/**
+ * Policies deciding whether a new search result may overwrite the
+ * entry of TranspositionTable already stored at its index
+ */
+public enum ReplacementPolicy {
+
+    // Every store overwrites the stored entry
+    ALWAYS_REPLACE,
+
+    // A stored entry is only overwritten by a result of equal or greater depth
+    DEPTH_PREFERRED,
+
+    // As DEPTH_PREFERRED, but entries left from an earlier search are always overwritten
+    AGED_DEPTH_PREFERRED
+}
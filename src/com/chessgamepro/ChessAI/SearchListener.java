@@ -0,0 +1,33 @@
+package com.chessgamepro.ChessAI;
+
+import java.util.function.Consumer;
+
+/**
+ * An interface for receiving the progress of a ChessAI search, called on
+ * the searching thread after every completed iteration
+ */
+public interface SearchListener {
+
+    // Listener that ignores every iteration, the default of ChessAI
+    SearchListener NONE = statistics -> {};
+
+    /**
+     * Method called when an iteration of iterative deepening completes
+     *
+     * @param statistics the statistics of search, the deepest completed
+     *                   iteration being the one just finished
+     */
+    void iterationCompleted(SearchStatistics statistics);
+
+    /**
+     * Method that creates a listener logging every completed iteration to
+     * a sink chosen by the caller, one line each, for example
+     * 'System.out::println' or a method of a logger
+     *
+     * @param logSink the sink the lines of iterations are passed to
+     * @return the listener
+     */
+    static SearchListener getLogListener(Consumer<String> logSink){
+        return statistics -> logSink.accept(statistics.toString());
+    }
+}
@@ -0,0 +1,169 @@
+package com.chessgamepro.ChessAI;
+
+/**
+ * Class holding the statistics of one ChessAI search, reset when a search
+ * starts. The counters are plain fields written only by the searching
+ * thread, so collecting them costs one increment each. Other threads
+ * should read them through a SearchListener or once the search is done.
+ */
+public class SearchStatistics {
+
+    // Counters incremented directly by ChessAI while searching
+    long nodeCount;
+    long quiescenceNodeCount;
+    long transpositionProbeCount;
+    long transpositionHitCount;
+    long transpositionCutoffCount;
+    long betaCutoffCount;
+    long firstMoveBetaCutoffCount;
+    long nullMoveCutoffCount;
+    long reverseFutilityCutoffCount;
+    long futilityPrunedMoveCount;
+    long reducedMoveCount;
+
+    // Results of every completed iteration, indexed by depth
+    private final long[] iterationNodeCounts = new long[ChessAI.MAX_SEARCH_DEPTH + 1];
+    private final long[] iterationMillis = new long[ChessAI.MAX_SEARCH_DEPTH + 1];
+    private final int[] iterationScores = new int[ChessAI.MAX_SEARCH_DEPTH + 1];
+    private final String[] principalVariations = new String[ChessAI.MAX_SEARCH_DEPTH + 1];
+    private int completedDepth;
+
+    // Method that clears all statistics before a new search
+    void reset(){
+        nodeCount = 0;
+        quiescenceNodeCount = 0;
+        transpositionProbeCount = 0;
+        transpositionHitCount = 0;
+        transpositionCutoffCount = 0;
+        betaCutoffCount = 0;
+        firstMoveBetaCutoffCount = 0;
+        nullMoveCutoffCount = 0;
+        reverseFutilityCutoffCount = 0;
+        futilityPrunedMoveCount = 0;
+        reducedMoveCount = 0;
+        completedDepth = 0;
+    }
+
+    /**
+     * Method that records the result of a completed iteration
+     *
+     * @param depth the depth of iteration
+     * @param score the score of the best move
+     * @param elapsedMillis the time since the search started
+     * @param principalVariation the expected moves in coordinate notation
+     */
+    void completeIteration(int depth, int score, long elapsedMillis, String principalVariation){
+        iterationNodeCounts[depth] = nodeCount;
+        iterationMillis[depth] = elapsedMillis;
+        iterationScores[depth] = score;
+        principalVariations[depth] = principalVariation;
+        completedDepth = depth;
+    }
+
+    // Methods for getting the counters of search
+    public long getNodeCount(){
+        return nodeCount;
+    }
+    public long getQuiescenceNodeCount(){
+        return quiescenceNodeCount;
+    }
+    public long getTranspositionProbeCount(){
+        return transpositionProbeCount;
+    }
+    public long getTranspositionHitCount(){
+        return transpositionHitCount;
+    }
+    public long getTranspositionCutoffCount(){
+        return transpositionCutoffCount;
+    }
+    public long getBetaCutoffCount(){
+        return betaCutoffCount;
+    }
+    public long getFirstMoveBetaCutoffCount(){
+        return firstMoveBetaCutoffCount;
+    }
+    public long getNullMoveCutoffCount(){
+        return nullMoveCutoffCount;
+    }
+    public long getReverseFutilityCutoffCount(){
+        return reverseFutilityCutoffCount;
+    }
+    public long getFutilityPrunedMoveCount(){
+        return futilityPrunedMoveCount;
+    }
+    public long getReducedMoveCount(){
+        return reducedMoveCount;
+    }
+
+    // Methods for getting the results of the deepest completed iteration
+    public int getCompletedDepth(){
+        return completedDepth;
+    }
+    public int getScore(){
+        return iterationScores[completedDepth];
+    }
+    public long getElapsedMillis(){
+        return iterationMillis[completedDepth];
+    }
+    public String getPrincipalVariation(){
+        return completedDepth == 0 ? "" : principalVariations[completedDepth];
+    }
+
+    // Methods for getting the results of a completed iteration by its depth
+    public long getTimeToDepth(int depth){
+        return iterationMillis[depth];
+    }
+    public long getNodeCountToDepth(int depth){
+        return iterationNodeCounts[depth];
+    }
+    public String getPrincipalVariation(int depth){
+        return principalVariations[depth];
+    }
+
+    /**
+     * Method for getting the share of beta cutoffs made by the first move
+     * searched, the closer to 1 the better the move ordering
+     *
+     * @return the share from 0 to 1, 0 if there were no cutoffs
+     */
+    public double getFirstMoveCutoffRate(){
+        return betaCutoffCount == 0 ? 0 : (double) firstMoveBetaCutoffCount / betaCutoffCount;
+    }
+
+    /**
+     * Method for getting the effective branching factor, the nodes searched
+     * by the deepest completed iteration divided by those of the one before
+     *
+     * @return the branching factor, 0 if less than two iterations completed
+     */
+    public double getEffectiveBranchingFactor(){
+
+        if(completedDepth < 2){
+            return 0;
+        }
+
+        long lastIterationNodes = iterationNodeCounts[completedDepth] - iterationNodeCounts[completedDepth - 1];
+        long previousIterationNodes = iterationNodeCounts[completedDepth - 1] - iterationNodeCounts[completedDepth - 2];
+
+        return previousIterationNodes == 0 ? 0 : (double) lastIterationNodes / previousIterationNodes;
+    }
+
+    // Method for getting the nodes searched per second up to the deepest completed iteration
+    public long getNodesPerSecond(){
+        return getNodeCountToDepth(completedDepth) * 1000 / Math.max(1, getElapsedMillis());
+    }
+
+    @Override
+    public String toString() {
+        return "depth " + completedDepth + ", score " + getScore() + ", nodes " + nodeCount +
+                ", quiescence nodes " + quiescenceNodeCount + ", nps " + getNodesPerSecond() +
+                ", tt probes " + transpositionProbeCount + ", tt hits " + transpositionHitCount +
+                ", tt cutoffs " + transpositionCutoffCount + ", beta cutoffs " + betaCutoffCount +
+                ", null move cutoffs " + nullMoveCutoffCount +
+                ", reverse futility cutoffs " + reverseFutilityCutoffCount +
+                ", futility pruned moves " + futilityPrunedMoveCount + ", reduced moves " + reducedMoveCount +
+                String.format(", first move cutoffs %.1f%%, branching factor %.2f",
+                        getFirstMoveCutoffRate() * 100, getEffectiveBranchingFactor()) +
+                ", time " + getElapsedMillis() + "ms, pv " + getPrincipalVariation();
+    }
+}
@@ -0,0 +1,136 @@
+package com.chessgamepro.ChessAI;
+
+import com.chessgamepro.BitBoard.AttackTables;
+import com.chessgamepro.BitBoard.BitBoard;
+import com.chessgamepro.BitBoard.MoveGenerator;
+import com.chessgamepro.ChessPieces.PieceColor;
+import com.chessgamepro.ChessPieces.PieceType;
+
+/**
+ * Class with the static exchange evaluation (SEE) of a move, the material
+ * won or lost if both sides keep recapturing on the target square with
+ * their least valuable piece and may stop whenever recapturing loses.
+ * Sliders behind a capturing piece join the exchange once it has moved.
+ */
+public final class StaticExchange {
+
+    // Order attackers join the exchange in, the least valuable first
+    private static final PieceType[] ATTACKER_ORDER = {
+            PieceType.PAWN, PieceType.KNIGHT, PieceType.BISHOP, PieceType.ROOK, PieceType.QUEEN, PieceType.KING
+    };
+
+    /**
+     * Method that checks if the exchange started by a move wins at least
+     * the given material for the side making it. Pins are not considered.
+     *
+     * @param bitBoard the position, left unchanged
+     * @param move the packed move, a capture or a promotion
+     * @param threshold the material the move must win, 0 to check it does not lose
+     * @return true if the exchange wins at least threshold, false otherwise
+     */
+    public static boolean isAtLeast(BitBoard bitBoard, int move, int threshold){
+
+        int from = MoveGenerator.getFrom(move);
+        int to = MoveGenerator.getTo(move);
+        int flags = MoveGenerator.getFlags(move);
+
+        int movingPiece = bitBoard.getPieceAtSquare(from);
+        PieceColor colorToMove = BitBoard.getPieceColor(movingPiece);
+
+        long occupancy = bitBoard.getOccupancy() ^ (1L << from);
+        int swap;
+
+        if(flags == MoveGenerator.EN_PASSANT){
+            occupancy ^= 1L << (colorToMove == PieceColor.WHITE ? to - 8 : to + 8);
+            swap = ChessAI.PAWN_VALUE;
+        }else{
+            int capturedPiece = bitBoard.getPieceAtSquare(to);
+            swap = capturedPiece == BitBoard.NO_PIECE ? 0 : ChessAI.getPieceValue(BitBoard.getPieceType(capturedPiece));
+        }
+
+        // The piece standing on the square after the move is the one the opponent wins back
+        int pieceOnSquareValue = ChessAI.getPieceValue(BitBoard.getPieceType(movingPiece));
+
+        if(MoveGenerator.isPromotion(move)){
+            int promotedValue = ChessAI.getPieceValue(MoveGenerator.getPromotedPieceType(move));
+
+            swap += promotedValue - ChessAI.PAWN_VALUE;
+            pieceOnSquareValue = promotedValue;
+        }
+
+        // Even if the opponent does not recapture the move falls short
+        swap -= threshold;
+        if(swap < 0){
+            return false;
+        }
+
+        // Even if the opponent recaptures for free the move is good enough
+        swap = pieceOnSquareValue - swap;
+        if(swap <= 0){
+            return true;
+        }
+
+        occupancy |= 1L << to;
+        long attackers = (MoveGenerator.getAttackers(bitBoard, to, PieceColor.WHITE, occupancy) |
+                MoveGenerator.getAttackers(bitBoard, to, PieceColor.BLACK, occupancy)) & occupancy;
+
+        long diagonalSliders = bitBoard.getPieceBitBoard(PieceType.BISHOP, PieceColor.WHITE) |
+                bitBoard.getPieceBitBoard(PieceType.BISHOP, PieceColor.BLACK) |
+                bitBoard.getPieceBitBoard(PieceType.QUEEN, PieceColor.WHITE) |
+                bitBoard.getPieceBitBoard(PieceType.QUEEN, PieceColor.BLACK);
+        long orthogonalSliders = bitBoard.getPieceBitBoard(PieceType.ROOK, PieceColor.WHITE) |
+                bitBoard.getPieceBitBoard(PieceType.ROOK, PieceColor.BLACK) |
+                bitBoard.getPieceBitBoard(PieceType.QUEEN, PieceColor.WHITE) |
+                bitBoard.getPieceBitBoard(PieceType.QUEEN, PieceColor.BLACK);
+
+        // 1 while the side that made the move is winning the exchange
+        int result = 1;
+        PieceColor sideToCapture = colorToMove;
+
+        while(true){
+            sideToCapture = sideToCapture.getOppositeColor();
+            attackers &= occupancy;
+
+            long sideAttackers = attackers & bitBoard.getColorBitBoard(sideToCapture);
+            if(sideAttackers == 0){
+                break;
+            }
+
+            result ^= 1;
+
+            PieceType attackerType = PieceType.KING;
+            long attacker = 0L;
+
+            for(PieceType type : ATTACKER_ORDER){
+                attacker = sideAttackers & bitBoard.getPieceBitBoard(type, sideToCapture);
+
+                if(attacker != 0){
+                    attackerType = type;
+                    break;
+                }
+            }
+
+            // The King may only recapture if the square is not defended anymore
+            if(attackerType == PieceType.KING){
+                return (attackers & ~bitBoard.getColorBitBoard(sideToCapture)) != 0 ? (result ^ 1) != 0 : result != 0;
+            }
+
+            swap = ChessAI.getPieceValue(attackerType) - swap;
+            if(swap < result){
+                break;
+            }
+
+            occupancy ^= Long.lowestOneBit(attacker);
+
+            // Sliders behind the capturing piece now see the square
+            if(attackerType == PieceType.PAWN || attackerType == PieceType.BISHOP || attackerType == PieceType.QUEEN){
+                attackers |= AttackTables.getBishopAttacks(to, occupancy) & diagonalSliders;
+            }
+            if(attackerType == PieceType.ROOK || attackerType == PieceType.QUEEN){
+                attackers |= AttackTables.getRookAttacks(to, occupancy) & orthogonalSliders;
+            }
+        }
+
+        return result != 0;
+    }
+}
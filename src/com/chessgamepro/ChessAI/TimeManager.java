@@ -0,0 +1,109 @@
+package com.chessgamepro.ChessAI;
+
+/**
+ * Class that decides how long the AI may search for a move. A search
+ * should not start a new iteration once the soft limit has passed and
+ * must stop mid-iteration once the hard limit has passed.
+ */
+public class TimeManager {
+
+    // Number of moves the remaining time is expected to be split over
+    public static final int MOVES_TO_GO = 30;
+
+    // Time kept back from every move for GUI updates and timer inaccuracy
+    public static final long MOVE_OVERHEAD_MILLIS = 50;
+
+    private final long softLimitMillis;
+    private final long hardLimitMillis;
+    private long startTime;
+    private volatile boolean isStopped;
+
+    /**
+     * Constructor for TimeManager of a move played on the clock
+     *
+     * @param remainingMillis the time left on the clock of the side searching
+     * @param incrementMillis the time added to the clock after every move
+     */
+    public TimeManager(long remainingMillis, long incrementMillis){
+
+        long availableMillis = Math.max(remainingMillis - MOVE_OVERHEAD_MILLIS, 1);
+        long optimumMillis = availableMillis / MOVES_TO_GO + incrementMillis * 3 / 4;
+
+        this.hardLimitMillis = Math.max(Math.min(optimumMillis * 3, availableMillis / 4), 1);
+        this.softLimitMillis = Math.min(optimumMillis, hardLimitMillis);
+
+        start();
+    }
+
+    /**
+     * Constructor for TimeManager of a move with a fixed time
+     *
+     * @param moveTimeMillis the time the move may take
+     */
+    public TimeManager(long moveTimeMillis){
+
+        this.hardLimitMillis = Math.max(moveTimeMillis, 1);
+
+        // The next iteration usually takes longer than all previous ones together
+        this.softLimitMillis = hardLimitMillis / 2;
+
+        start();
+    }
+
+    /**
+     * Method that starts measuring time from now
+     */
+    public void start(){
+        startTime = System.nanoTime();
+        isStopped = false;
+    }
+
+    /**
+     * Method that stops the search at its next check of time, can be
+     * called from any thread
+     */
+    public void stop(){
+        isStopped = true;
+    }
+
+    /**
+     * Method that checks if there is enough time left to start a new iteration
+     *
+     * @return true if a new iteration may start, false otherwise
+     */
+    public boolean canStartIteration(){
+        return !isStopped && getElapsedMillis() < softLimitMillis;
+    }
+
+    /**
+     * Method that checks if the search must stop immediately
+     *
+     * @return true if stopped or hard limit has passed, false otherwise
+     */
+    public boolean isTimeUp(){
+
+        if(!isStopped && getElapsedMillis() >= hardLimitMillis){
+            isStopped = true;
+        }
+
+        return isStopped;
+    }
+
+    // Method for checking if the search was stopped, does not look at the clock
+    public boolean isStopped(){
+        return isStopped;
+    }
+
+    // Method for getting the time passed since the start
+    public long getElapsedMillis(){
+        return (System.nanoTime() - startTime) / 1_000_000;
+    }
+
+    // Methods for getting the time limits
+    public long getSoftLimitMillis(){
+        return softLimitMillis;
+    }
+    public long getHardLimitMillis(){
+        return hardLimitMillis;
+    }
+}
@@ -0,0 +1,262 @@
+package com.chessgamepro.ChessAI;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size table of search results indexed by the Zobrist key of
+ * position. Every entry takes two longs, the key XORed with the data and
+ * the data itself, packed as:
+ *
+ *  bits  0-15  best move, packed as in MoveGenerator
+ *  bits 16-47  score
+ *  bits 48-55  depth
+ *  bits 56-57  bound type
+ *  bits 58-63  age of the search that stored it
+ *
+ * Reads and writes take no locks. An entry torn by two threads writing
+ * at once fails the XOR check on probe and is treated as a miss.
+ */
+public class TranspositionTable {
+
+    // Bound types, never 0 so stored data is never 0
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+
+    // Returned by 'probe' when no entry of position is stored
+    public static final long NO_ENTRY = 0L;
+
+    public static final int DEFAULT_SIZE_IN_MEGABYTES = 16;
+
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+    private static final int MAX_DEPTH = 0xFF;
+    private static final int AGE_MASK = 0x3F;
+
+    // Number of entries sampled when calculating how full the table is
+    private static final int USAGE_SAMPLE_SIZE = 1000;
+
+    private final long[] entries;
+    private final int indexMask;
+    private final int sizeInMegabytes;
+    private final ReplacementPolicy replacementPolicy;
+    private int age;
+
+    private final LongAdder probeCount;
+    private final LongAdder hitCount;
+    private final LongAdder cutoffCount;
+    private final LongAdder storeCount;
+    private final LongAdder overwriteCount;
+
+    /**
+     * Constructor for TranspositionTable, the number of entries is the
+     * largest power of two that fits in the given size
+     *
+     * @param sizeInMegabytes the memory taken by the table, at least 1
+     * @param replacementPolicy the policy used when storing over an occupied entry
+     */
+    public TranspositionTable(int sizeInMegabytes, ReplacementPolicy replacementPolicy){
+
+        if(sizeInMegabytes < 1){
+            throw new IllegalArgumentException("Transposition table size must be at least 1 MB");
+        }
+
+        int entryCount = Integer.highestOneBit(
+                (int) Math.min((long) sizeInMegabytes * 1024 * 1024 / BYTES_PER_ENTRY, 1 << 29)
+        );
+
+        this.entries = new long[entryCount * 2];
+        this.indexMask = entryCount - 1;
+        this.sizeInMegabytes = sizeInMegabytes;
+        this.replacementPolicy = replacementPolicy;
+        this.age = 0;
+
+        probeCount = new LongAdder();
+        hitCount = new LongAdder();
+        cutoffCount = new LongAdder();
+        storeCount = new LongAdder();
+        overwriteCount = new LongAdder();
+    }
+
+    /**
+     * Method that looks up the entry of a position
+     *
+     * @param key the Zobrist key of position
+     * @return the packed data of entry, NO_ENTRY if position is not stored
+     */
+    public long probe(long key){
+
+        int index = getIndex(key);
+        long data = entries[index + 1];
+
+        probeCount.increment();
+
+        if(data == NO_ENTRY || (entries[index] ^ data) != key){
+            return NO_ENTRY;
+        }
+
+        hitCount.increment();
+        return data;
+    }
+
+    /**
+     * Method that stores the result of searching a position, the
+     * replacement policy decides if an occupied entry is overwritten
+     *
+     * @param key the Zobrist key of position
+     * @param depth the depth to which position was searched
+     * @param bound the bound type of score
+     * @param score the score of position
+     * @param move the best move found, packed, 0 if there is none
+     */
+    public void store(long key, int depth, int bound, int score, int move){
+
+        int index = getIndex(key);
+        long storedData = entries[index + 1];
+        long storedKey = entries[index] ^ storedData;
+
+        if(storedData != NO_ENTRY && !shouldReplace(storedData, depth)){
+            return;
+        }
+
+        // Keep the best move of position if the new result has none
+        if(move == 0 && storedKey == key){
+            move = getMove(storedData);
+        }
+
+        long data = (move & 0xFFFFL) |
+                ((score & 0xFFFFFFFFL) << 16) |
+                ((long) Math.min(Math.max(depth, 0), MAX_DEPTH) << 48) |
+                ((long) bound << 56) |
+                ((long) age << 58);
+
+        entries[index] = key ^ data;
+        entries[index + 1] = data;
+
+        storeCount.increment();
+        if(storedData != NO_ENTRY && storedKey != key){
+            overwriteCount.increment();
+        }
+    }
+
+    /**
+     * Helper method for 'store' that applies the replacement policy
+     * to an occupied entry
+     */
+    private boolean shouldReplace(long storedData, int depth){
+
+        switch (replacementPolicy){
+            case DEPTH_PREFERRED -> {return depth >= getDepth(storedData);}
+            case AGED_DEPTH_PREFERRED -> {return getAge(storedData) != age || depth >= getDepth(storedData);}
+            default -> {return true;}
+        }
+    }
+
+    // Helper method for getting the index of the first long of entry of a key
+    private int getIndex(long key){
+        return ((int) key & indexMask) << 1;
+    }
+
+    /**
+     * Method that marks the start of a new search, entries stored by
+     * earlier searches are older from now on
+     */
+    public void newSearch(){
+        age = (age + 1) & AGE_MASK;
+    }
+
+    /**
+     * Method that empties the table and resets all counters
+     */
+    public void clear(){
+        Arrays.fill(entries, 0L);
+        age = 0;
+
+        probeCount.reset();
+        hitCount.reset();
+        cutoffCount.reset();
+        storeCount.reset();
+        overwriteCount.reset();
+    }
+
+    // Method for counting a search cutoff made by a stored score
+    public void recordCutoff(){
+        cutoffCount.increment();
+    }
+
+    /* Block of methods that unpack the data returned by 'probe' */
+
+    public static int getMove(long data){
+        return (int) (data & 0xFFFF);
+    }
+    public static int getScore(long data){
+        return (int) (data >>> 16);
+    }
+    public static int getDepth(long data){
+        return (int) ((data >>> 48) & MAX_DEPTH);
+    }
+    public static int getBound(long data){
+        return (int) ((data >>> 56) & 0x3);
+    }
+    private static int getAge(long data){
+        return (int) (data >>> 58);
+    }
+
+    /**
+     * Method that estimates how full the table is from a sample of
+     * entries, only entries of the current search are counted
+     *
+     * @return the number of used entries per thousand
+     */
+    public int getUsagePermille(){
+
+        int sampleSize = Math.min(USAGE_SAMPLE_SIZE, entries.length / 2);
+        int usedCount = 0;
+
+        for(int i = 0; i < sampleSize; ++i){
+            long data = entries[2 * i + 1];
+
+            if(data != NO_ENTRY && getAge(data) == age){
+                ++usedCount;
+            }
+        }
+
+        return usedCount * 1000 / sampleSize;
+    }
+
+    // Methods for getting the size and policy of the table
+    public int getSizeInMegabytes(){
+        return sizeInMegabytes;
+    }
+    public int getEntryCount(){
+        return indexMask + 1;
+    }
+    public ReplacementPolicy getReplacementPolicy(){
+        return replacementPolicy;
+    }
+
+    // Methods for getting the counters of the table
+    public long getProbeCount(){
+        return probeCount.sum();
+    }
+    public long getHitCount(){
+        return hitCount.sum();
+    }
+    public long getCutoffCount(){
+        return cutoffCount.sum();
+    }
+    public long getStoreCount(){
+        return storeCount.sum();
+    }
+    public long getOverwriteCount(){
+        return overwriteCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "TranspositionTable " + sizeInMegabytes + " MB, " + getEntryCount() + " entries, " +
+                replacementPolicy + ", probes " + getProbeCount() + ", hits " + getHitCount() +
+                ", cutoffs " + getCutoffCount() + ", stores " + getStoreCount() +
+                ", overwrites " + getOverwriteCount() + ", usage " + getUsagePermille() + " permille";
+    }
+}
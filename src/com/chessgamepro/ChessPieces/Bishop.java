@@ -5,6 +5,9 @@ import com.chessgamepro.ChessPieces.PieceMove.SimpleCaptureCondition;
 import com.chessgamepro.ChessPieces.PieceMove.SimpleMoveCondition;
 import com.chessgamepro.GameBoard.Coordinate;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class Bishop extends ChessPiece{
 
     /**
@@ -55,11 +58,15 @@ public class Bishop extends ChessPiece{
     }
 
     /**
-     * Overridden method for Bishop that initializes the
-     * movement pattern of a Bishop
+     * Method that creates the movement pattern of a Bishop of a given
+     * color, called only once per color by MovementPatterns
+     *
+     * @param color the color of Bishop
+     * @return a new list of all Bishop moves
      */
-    @Override
-    public void initializeMovementPattern() {
+    static List<PieceMove> createMovementPattern(PieceColor color) {
+
+        List<PieceMove> movePattern = new ArrayList<>();
 
         // Bishop moves in four directions - NE, SE, SW, NW
 
@@ -91,6 +98,8 @@ public class Bishop extends ChessPiece{
         movePattern.add(southEast);
         movePattern.add(southWest);
         movePattern.add(northWest);
+
+        return movePattern;
     }
 
     /**
@@ -1,11 +1,7 @@
 package com.chessgamepro.ChessPieces;
 import com.chessgamepro.ChessPieces.PieceMove.PieceMove;
-import com.chessgamepro.GUI.ImageUtility;
 import com.chessgamepro.GameBoard.Coordinate;
-import com.chessgamepro.GameBoard.GameBoard;
 
-import java.awt.*;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -13,14 +9,11 @@ import java.util.List;
  */
 public abstract class ChessPiece {
 
-    //Constant representing height and width of piece image
-    public static final int PIECE_IMAGE_SIZE = GameBoard.WIDTH/8;
-    private Image pieceImage;
     private Coordinate position;
     private PieceType type;
     private PieceColor color;
     private boolean hasMoved;
-    protected List<PieceMove> movePattern;
+    private final List<PieceMove> movePattern;
     private final PieceType[] promotions;
 
     /**
@@ -39,12 +32,9 @@ public abstract class ChessPiece {
 
         hasMoved = false;
 
-        movePattern = new ArrayList<>();
-        initializeMovementPattern();
+        movePattern = MovementPatterns.getMovementPattern(type, color);
 
         this.promotions = promotions;
-
-        pieceImage = ImageUtility.initializePieceImage(type,color);
     }
 
     /**
@@ -65,12 +55,9 @@ public abstract class ChessPiece {
 
         this.hasMoved = hasMoved;
 
-        movePattern = new ArrayList<>();
-        initializeMovementPattern();
+        movePattern = MovementPatterns.getMovementPattern(type, color);
 
         this.promotions = promotions;
-
-        pieceImage = ImageUtility.initializePieceImage(type,color);
     }
 
     /**
@@ -90,8 +77,6 @@ public abstract class ChessPiece {
         this.movePattern = piece.movePattern;
 
         this.promotions = piece.promotions;
-
-        this.pieceImage = piece.pieceImage;
     }
 
     /**
@@ -184,14 +169,9 @@ public abstract class ChessPiece {
         hasMoved = newHasMoved;
     }
 
-    //Method for getting and initializing movement pattern of piece
+    //Method for getting movement pattern of piece, shared by all pieces of its type and color
     public List<PieceMove> getMovePattern(){return movePattern;}
 
-    /**
-     * Abstract method for initializing the movement pattern of a piece
-     */
-    public abstract void initializeMovementPattern();
-
     /**
      * Method that returns all the piece types that this piece can
      * promote into
@@ -202,18 +182,4 @@ public abstract class ChessPiece {
         return promotions;
     }
 
-    // Methods for getting and setting piece image
-    public Image getPieceImage() {
-        return pieceImage;
-    }
-
-    /**
-     * Method that sets piece image from new image path
-     *
-     * @param path new image path
-     */
-    public void setPieceImage(String path) {
-        pieceImage = ImageUtility.getImageAtPath(path);
-    }
-
 }
@@ -8,6 +8,9 @@ import com.chessgamepro.GameBoard.Coordinate;
 import com.chessgamepro.GameBoard.GameBoard;
 import com.chessgamepro.GameBoard.Move;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class King extends ChessPiece{
 
     /**
@@ -58,11 +61,15 @@ public class King extends ChessPiece{
     }
 
     /**
-     * Overridden method for King that initializes the
-     * movement pattern of a King
+     * Method that creates the movement pattern of a King of a given
+     * color, called only once per color by MovementPatterns
+     *
+     * @param color the color of King
+     * @return a new list of all King moves
      */
-    @Override
-    public void initializeMovementPattern() {
+    static List<PieceMove> createMovementPattern(PieceColor color) {
+
+        List<PieceMove> movePattern = new ArrayList<>();
 
         // King moves to squares all around - N, NE, E, SE, S, SW, W, NW
 
@@ -147,18 +154,6 @@ public class King extends ChessPiece{
                 return true;
             }
 
-            @Override
-            public boolean testLegal(GameBoard gameBoard, ChessPiece pieceMoving, Move move) {
-
-                Coordinate squareNextToKing =  new Coordinate(pieceMoving.getPosition().getRow(), 5);
-                Coordinate squareNextToRook = new Coordinate(pieceMoving.getPosition().getRow(), 6);
-
-                // If either square between Rook and King is in check or King
-                // is in check, condition isn't met
-                return !gameBoard.areSquaresInCheck(pieceMoving.getColor().getOppositeColor(),
-                        squareNextToKing, squareNextToRook, pieceMoving.getPosition());
-            }
-
             @Override
             public Move getMove(GameBoard gameBoard, ChessPiece pieceMoving, Coordinate to) {
                 Move rookMove = new Move(
@@ -216,18 +211,6 @@ public class King extends ChessPiece{
                 return true;
             }
 
-            @Override
-            public boolean testLegal(GameBoard gameBoard, ChessPiece pieceMoving, Move move) {
-
-                Coordinate squareNextToKing = new Coordinate(pieceMoving.getPosition().getRow(), 3);
-                Coordinate squareInMiddleOfTwo = new Coordinate(pieceMoving.getPosition().getRow(), 2);
-
-                // If square next to King or square in middle is in check or King
-                // is in check, condition isn't met
-                return !gameBoard.areSquaresInCheck(pieceMoving.getColor().getOppositeColor(),
-                        squareNextToKing, squareInMiddleOfTwo, pieceMoving.getPosition());
-            }
-
             @Override
             public Move getMove(GameBoard gameBoard, ChessPiece pieceMoving, Coordinate to) {
                 Move rookMove = new Move(
@@ -255,6 +238,8 @@ public class King extends ChessPiece{
 
         movePattern.add(kingSideCastle);
         movePattern.add(queenSideCastle);
+
+        return movePattern;
     }
 
     /**
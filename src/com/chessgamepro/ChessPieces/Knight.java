@@ -5,6 +5,9 @@ import com.chessgamepro.ChessPieces.PieceMove.SimpleCaptureCondition;
 import com.chessgamepro.ChessPieces.PieceMove.SimpleMoveCondition;
 import com.chessgamepro.GameBoard.Coordinate;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class Knight extends ChessPiece {
 
     /**
@@ -55,11 +58,15 @@ public class Knight extends ChessPiece {
     }
 
     /**
-     * Overridden method for Knight that initializes the
-     * movement pattern of a Knight
+     * Method that creates the movement pattern of a Knight of a given
+     * color, called only once per color by MovementPatterns
+     *
+     * @param color the color of Knight
+     * @return a new list of all Knight moves
      */
-    @Override
-    public void initializeMovementPattern() {
+    static List<PieceMove> createMovementPattern(PieceColor color) {
+
+        List<PieceMove> movePattern = new ArrayList<>();
 
         // Knight moves in L shapes all around
 
@@ -115,6 +122,7 @@ public class Knight extends ChessPiece {
         movePattern.add(westNorthL);
         movePattern.add(northWestL);
 
+        return movePattern;
     }
 
     /**
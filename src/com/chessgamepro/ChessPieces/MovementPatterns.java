@@ -0,0 +1,53 @@
+package com.chessgamepro.ChessPieces;
+
+import com.chessgamepro.ChessPieces.PieceMove.PieceMove;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class holding the movement pattern of every piece type and color. The
+ * moves and their conditions keep no state of their own, so every piece
+ * of the same type and color shares one unmodifiable pattern and creating
+ * or copying a piece creates no moves.
+ */
+public final class MovementPatterns {
+
+    // Patterns indexed by type ordinal, then by color ordinal
+    private static final List<List<List<PieceMove>>> PATTERNS = new ArrayList<>();
+
+    static {
+        for(PieceType type : PieceType.values()){
+            List<List<PieceMove>> typePatterns = new ArrayList<>();
+
+            for(PieceColor color : PieceColor.values()){
+                typePatterns.add(List.copyOf(createMovementPattern(type, color)));
+            }
+            PATTERNS.add(typePatterns);
+        }
+    }
+
+    // Helper method for the static initializer that asks the class of a piece type for its pattern
+    private static List<PieceMove> createMovementPattern(PieceType type, PieceColor color){
+
+        switch (type){
+            case KING -> {return King.createMovementPattern(color);}
+            case QUEEN -> {return Queen.createMovementPattern(color);}
+            case KNIGHT -> {return Knight.createMovementPattern(color);}
+            case BISHOP -> {return Bishop.createMovementPattern(color);}
+            case ROOK -> {return Rook.createMovementPattern(color);}
+            default -> {return Pawn.createMovementPattern(color);}
+        }
+    }
+
+    /**
+     * Method for getting the shared movement pattern of a piece type and color
+     *
+     * @param type the type of piece
+     * @param color the color of piece
+     * @return an unmodifiable list of all piece moves
+     */
+    public static List<PieceMove> getMovementPattern(PieceType type, PieceColor color){
+        return PATTERNS.get(type.ordinal()).get(color.ordinal());
+    }
+}
@@ -8,6 +8,9 @@ import com.chessgamepro.GameBoard.Coordinate;
 import com.chessgamepro.GameBoard.GameBoard;
 import com.chessgamepro.GameBoard.Move;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class Pawn extends ChessPiece{
 
     /**
@@ -60,11 +63,15 @@ public class Pawn extends ChessPiece{
     }
 
     /**
-     * Overridden method for Pawn that initializes the
-     * movement pattern of a Pawn
+     * Method that creates the movement pattern of a Pawn of a given
+     * color, called only once per color by MovementPatterns
+     *
+     * @param color the color of Pawn
+     * @return a new list of all Pawn moves
      */
-    @Override
-    public void initializeMovementPattern() {
+    static List<PieceMove> createMovementPattern(PieceColor color) {
+
+        List<PieceMove> movePattern = new ArrayList<>();
 
         // Pawn movement offsets are different depending on color
         // Pawn move and capture have an additional ability called
@@ -107,7 +114,7 @@ public class Pawn extends ChessPiece{
             }
         };
 
-        if(this.getColor() == PieceColor.WHITE){
+        if(color == PieceColor.WHITE){
 
             PieceMove oneForward = new PieceMove(
                     1,0,false,
@@ -128,7 +135,7 @@ public class Pawn extends ChessPiece{
             movePattern.add(northEastCapture);
             movePattern.add(northWestCapture);
 
-        }else if(this.getColor() == PieceColor.BLACK){
+        }else if(color == PieceColor.BLACK){
 
             PieceMove oneForward = new PieceMove(
                     -1,0,false,
@@ -191,7 +198,7 @@ public class Pawn extends ChessPiece{
             }
         };
 
-        if(this.getColor() == PieceColor.WHITE){
+        if(color == PieceColor.WHITE){
 
             PieceMove twoForward = new PieceMove(
                     2,0,false,
@@ -200,7 +207,7 @@ public class Pawn extends ChessPiece{
 
             movePattern.add(twoForward);
 
-        }else if(this.getColor() == PieceColor.BLACK){
+        }else if(color == PieceColor.BLACK){
 
             PieceMove twoForward = new PieceMove(
                     -2,0,false,
@@ -354,7 +361,7 @@ public class Pawn extends ChessPiece{
             }
         };
 
-        if(this.getColor() == PieceColor.WHITE){
+        if(color == PieceColor.WHITE){
 
             PieceMove enPassantEast = new PieceMove(
                     1,1,false,
@@ -369,7 +376,7 @@ public class Pawn extends ChessPiece{
             movePattern.add(enPassantEast);
             movePattern.add(enPassantWest);
 
-        }else if(this.getColor() == PieceColor.BLACK){
+        }else if(color == PieceColor.BLACK){
 
             PieceMove enPassantEast = new PieceMove(
                     -1,1,false,
@@ -385,6 +392,8 @@ public class Pawn extends ChessPiece{
             movePattern.add(enPassantEast);
             movePattern.add(enPassantWest);
         }
+
+        return movePattern;
     }
 
     /**
@@ -32,6 +32,7 @@ public class PieceMove {
         this.moveConditions = moveConditions;
     }
 
+    // Method for getting the conditions of this move, shared and must not be modified
     public MoveCondition[] getMoveConditions(){
         return moveConditions;
     }
@@ -5,6 +5,9 @@ import com.chessgamepro.ChessPieces.PieceMove.SimpleCaptureCondition;
 import com.chessgamepro.ChessPieces.PieceMove.SimpleMoveCondition;
 import com.chessgamepro.GameBoard.Coordinate;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class Queen extends ChessPiece{
 
     /**
@@ -55,11 +58,15 @@ public class Queen extends ChessPiece{
     }
 
     /**
-     * Overridden method for Queen that initializes the
-     * movement pattern of a Queen
+     * Method that creates the movement pattern of a Queen of a given
+     * color, called only once per color by MovementPatterns
+     *
+     * @param color the color of Queen
+     * @return a new list of all Queen moves
      */
-    @Override
-    public void initializeMovementPattern() {
+    static List<PieceMove> createMovementPattern(PieceColor color) {
+
+        List<PieceMove> movePattern = new ArrayList<>();
 
         // Queen moves in eight directions - N, NE, E, SE, S, SW, W, NW
 
@@ -114,6 +121,8 @@ public class Queen extends ChessPiece{
         movePattern.add(southWest);
         movePattern.add(west);
         movePattern.add(northWest);
+
+        return movePattern;
     }
 
     /**
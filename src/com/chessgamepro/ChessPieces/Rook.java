@@ -5,6 +5,9 @@ import com.chessgamepro.ChessPieces.PieceMove.SimpleCaptureCondition;
 import com.chessgamepro.ChessPieces.PieceMove.SimpleMoveCondition;
 import com.chessgamepro.GameBoard.Coordinate;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class Rook extends ChessPiece{
 
     private final boolean isKingSide;
@@ -66,11 +69,15 @@ public class Rook extends ChessPiece{
     }
 
     /**
-     * Overridden method for Rook that initializes the
-     * movement pattern of a Rook
+     * Method that creates the movement pattern of a Rook of a given
+     * color, called only once per color by MovementPatterns
+     *
+     * @param color the color of Rook
+     * @return a new list of all Rook moves
      */
-    @Override
-    public void initializeMovementPattern() {
+    static List<PieceMove> createMovementPattern(PieceColor color) {
+
+        List<PieceMove> movePattern = new ArrayList<>();
 
         // Rook moves in four directions - N, E, S, W
 
@@ -101,6 +108,7 @@ public class Rook extends ChessPiece{
         movePattern.add(south);
         movePattern.add(west);
 
+        return movePattern;
     }
 
     // Methods for getting if this Rook is king-side or queen-side
@@ -1,6 +1,8 @@
 package com.chessgamepro.FenUtility;
 
 import com.chessgamepro.ChessPieces.ChessPiece;
+import com.chessgamepro.ChessPieces.PieceColor;
+
 import java.util.List;
 
 /**
@@ -8,8 +10,22 @@ import java.util.List;
  *
  * @param allPieces list of all chess pieces on board
  * @param boardLayout matrix representing chess board
+ * @param sideToMove the color whose turn it is
+ * @param castlingRights castling bits as in BitBoard, UNKNOWN_CASTLING_RIGHTS
+ *                       if the fen has no castling field
+ * @param enPassantSquare the en-passant square, BitBoard.NO_SQUARE if there is none
+ * @param halfMoveClock half moves since the last capture or Pawn move
+ * @param fullMoveNumber the number of the full move, starting at 1
  */
 public record FenData(
         List<ChessPiece> allPieces,
-        ChessPiece[][] boardLayout) {
+        ChessPiece[][] boardLayout,
+        PieceColor sideToMove,
+        int castlingRights,
+        int enPassantSquare,
+        int halfMoveClock,
+        int fullMoveNumber) {
+
+    // Constant representing castling rights missing from the fen
+    public static final int UNKNOWN_CASTLING_RIGHTS = -1;
 }
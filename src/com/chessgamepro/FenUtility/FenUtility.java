@@ -1,10 +1,12 @@
 package com.chessgamepro.FenUtility;
 
+import com.chessgamepro.BitBoard.BitBoard;
 import com.chessgamepro.ChessPieces.*;
 import com.chessgamepro.GameBoard.Coordinate;
 import com.chessgamepro.GameBoard.GameBoard;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -15,90 +17,403 @@ public final class FenUtility {
 
     public static final String position2 = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq -";
 
+    // Constants representing the separators and empty fields of a fen
+    private static final char FIELD_SEPARATOR = ' ';
+    private static final char EMPTY_FIELD = '-';
+
+    // Symbols of pieces indexed by BitBoard piece index, and the reverse lookup
+    private static final char[] PIECE_SYMBOLS = {
+            FenCharacter.WHITE_KING_FEN.symbol, FenCharacter.WHITE_QUEEN_FEN.symbol,
+            FenCharacter.WHITE_KNIGHT_FEN.symbol, FenCharacter.WHITE_ROOK_FEN.symbol,
+            FenCharacter.WHITE_BISHOP_FEN.symbol, FenCharacter.WHITE_PAWN_FEN.symbol,
+            FenCharacter.BLACK_KING_FEN.symbol, FenCharacter.BLACK_QUEEN_FEN.symbol,
+            FenCharacter.BLACK_KNIGHT_FEN.symbol, FenCharacter.BLACK_ROOK_FEN.symbol,
+            FenCharacter.BLACK_BISHOP_FEN.symbol, FenCharacter.BLACK_PAWN_FEN.symbol
+    };
+    private static final int[] SYMBOL_PIECES = new int[128];
+
+    // Symbols of castling rights in fen order, indexed by bit of the right
+    private static final char[] CASTLING_SYMBOLS = {'K', 'Q', 'k', 'q'};
+
+    static {
+        Arrays.fill(SYMBOL_PIECES, BitBoard.NO_PIECE);
+
+        for(int piece = 0; piece < PIECE_SYMBOLS.length; ++piece){
+            SYMBOL_PIECES[PIECE_SYMBOLS[piece]] = piece;
+        }
+    }
+
     /**
-     * Method for decoding data held within a fen string
+     * Method for decoding data held within a fen string. A fen holding only
+     * piece placement is read with White to move and castling rights left
+     * as FenData.UNKNOWN_CASTLING_RIGHTS
      *
      * @param fen string holding data about the board
      * @return data decoded from fen string
      */
     public static FenData getDataFromFen(String fen) {
 
+        BitBoard bitBoard = new BitBoard();
+        parseFen(fen, bitBoard);
+
         //Data to be decoded from fen string
         List<ChessPiece> allPieces = new ArrayList<>();
         ChessPiece[][] boardLayout =
                 new ChessPiece[GameBoard.ROW_COUNT][GameBoard.COLUM_COUNT];
 
-        //Split the fen into different sections where each holds its own data types
-        String[] fenSections = fen.split(" ");
+        // Pieces are listed in fen order, from a8 to h1
+        for(int row = GameBoard.ROW_COUNT - 1; row >= 0; --row){
+            for(int column = 0; column < GameBoard.COLUM_COUNT; ++column){
+                int piece = bitBoard.getPieceAtSquare(BitBoard.getSquare(row, column));
+
+                if(piece == BitBoard.NO_PIECE){
+                    continue;
+                }
+
+                ChessPiece chessPiece = createPiece(BitBoard.getPieceType(piece),
+                        new Coordinate(row, column), BitBoard.getPieceColor(piece));
+
+                allPieces.add(chessPiece);
+                boardLayout[row][column] = chessPiece;
+            }
+        }
+
+        int castlingRights = getFieldCount(fen) > 2 ?
+                bitBoard.getCastlingRights() : FenData.UNKNOWN_CASTLING_RIGHTS;
+
+        return new FenData(allPieces, boardLayout, bitBoard.getSideToMove(), castlingRights,
+                bitBoard.getEnPassantSquare(), bitBoard.getHalfMoveClock(), bitBoard.getFullMoveNumber());
+    }
+
+    /**
+     * Method that reads a fen into a reusable BitBoard, the fields are scanned
+     * in place without splitting the string. Only piece placement is required,
+     * missing fields default to White to move, no castling rights, no
+     * en-passant square and move clocks of 0 and 1.
+     *
+     * @param fen the fen, or the start of an EPD line
+     * @param bitBoard the BitBoard that is cleared and filled with the position
+     * @return the index in fen where reading stopped, EPD operations start there
+     * @throws IllegalArgumentException if a field of fen is malformed
+     */
+    public static int parseFen(CharSequence fen, BitBoard bitBoard){
+
+        bitBoard.clear();
+
+        int length = fen.length();
+        int index = skipSeparators(fen, 0);
+
+        // Piece placement, from a8 to h1
+        int row = GameBoard.ROW_COUNT - 1;
+        int column = 0;
+
+        for(; index < length && fen.charAt(index) != FIELD_SEPARATOR; ++index){
+            char symbol = fen.charAt(index);
+
+            if(symbol == FenCharacter.NEXT_ROW_FEN.symbol){
+                if(column != GameBoard.COLUM_COUNT || row == 0){
+                    throw new IllegalArgumentException("Invalid row ending at index " + index + " of fen: " + fen);
+                }
+                --row;
+                column = 0;
+
+            }else if(symbol >= '1' && symbol <= '8'){
+                column += symbol - '0';
+
+                if(column > GameBoard.COLUM_COUNT){
+                    throw new IllegalArgumentException("Row too long at index " + index + " of fen: " + fen);
+                }
+
+            }else{
+                int piece = symbol < SYMBOL_PIECES.length ? SYMBOL_PIECES[symbol] : BitBoard.NO_PIECE;
+
+                if(piece == BitBoard.NO_PIECE || column >= GameBoard.COLUM_COUNT){
+                    throw new IllegalArgumentException("Invalid piece '" + symbol + "' at index " + index + " of fen: " + fen);
+                }
+                bitBoard.addPiece(BitBoard.getSquare(row, column++), piece);
+            }
+        }
+
+        if(row != 0 || column != GameBoard.COLUM_COUNT){
+            throw new IllegalArgumentException("Incomplete piece placement in fen: " + fen);
+        }
+
+        // Side to move
+        index = skipSeparators(fen, index);
+        if(index == length){
+            return index;
+        }
+
+        switch (fen.charAt(index)){
+            case 'w' -> bitBoard.setSideToMove(PieceColor.WHITE);
+            case 'b' -> bitBoard.setSideToMove(PieceColor.BLACK);
+            default -> throw new IllegalArgumentException("Invalid side to move in fen: " + fen);
+        }
+        index = checkFieldEnd(fen, index + 1);
+
+        // Castling rights
+        index = skipSeparators(fen, index);
+        if(index == length){
+            return index;
+        }
+
+        int castlingRights = 0;
+
+        if(fen.charAt(index) == EMPTY_FIELD){
+            ++index;
+        }else{
+            for(; index < length && fen.charAt(index) != FIELD_SEPARATOR; ++index){
+                int castlingIndex = getCastlingIndex(fen.charAt(index));
+
+                if(castlingIndex == -1){
+                    throw new IllegalArgumentException("Invalid castling rights in fen: " + fen);
+                }
+                castlingRights |= 1 << castlingIndex;
+            }
+        }
+        bitBoard.setCastlingRights(castlingRights);
+        index = checkFieldEnd(fen, index);
+
+        // En-passant square
+        index = skipSeparators(fen, index);
+        if(index == length){
+            return index;
+        }
+
+        if(fen.charAt(index) == EMPTY_FIELD){
+            ++index;
+        }else{
+            char file = fen.charAt(index);
+            char rank = index + 1 < length ? fen.charAt(index + 1) : FIELD_SEPARATOR;
+
+            if(file < 'a' || file > 'h' || (rank != '3' && rank != '6')){
+                throw new IllegalArgumentException("Invalid en-passant square in fen: " + fen);
+            }
+            bitBoard.setEnPassantSquare(BitBoard.getSquare(rank - '1', file - 'a'));
+            index += 2;
+        }
+        index = checkFieldEnd(fen, index);
+
+        // Move clocks, EPD lines hold operations in their place
+        int clockIndex = skipSeparators(fen, index);
+        if(clockIndex == length || !isDigit(fen.charAt(clockIndex))){
+            return index;
+        }
+
+        int halfMoveClock = 0;
+        for(index = clockIndex; index < length && isDigit(fen.charAt(index)); ++index){
+            halfMoveClock = halfMoveClock * 10 + (fen.charAt(index) - '0');
+        }
+        bitBoard.setHalfMoveClock(halfMoveClock);
+        index = checkFieldEnd(fen, index);
+
+        clockIndex = skipSeparators(fen, index);
+        if(clockIndex == length || !isDigit(fen.charAt(clockIndex))){
+            return index;
+        }
+
+        int fullMoveNumber = 0;
+        for(index = clockIndex; index < length && isDigit(fen.charAt(index)); ++index){
+            fullMoveNumber = fullMoveNumber * 10 + (fen.charAt(index) - '0');
+        }
+        bitBoard.setFullMoveNumber(fullMoveNumber);
+
+        return checkFieldEnd(fen, index);
+    }
 
-        int lenghtOfSection = fenSections[0].length();
+    /**
+     * Method that reads an EPD line into a reusable BitBoard. The line holds
+     * the first four fields of a fen followed by operations such as
+     * 'bm Nf3; id "test 1";'
+     *
+     * @param epd the EPD line
+     * @param bitBoard the BitBoard that is cleared and filled with the position
+     * @return the operations of line, empty if there are none
+     * @throws IllegalArgumentException if a position field is malformed
+     */
+    public static String parseEpd(CharSequence epd, BitBoard bitBoard){
 
-        //Section one holds the all data about piece positions, types and colors
-        int rowCounter = 7;
-        int columnCounter = 0;
+        int index = parseFen(epd, bitBoard);
 
+        return epd.subSequence(skipSeparators(epd, index), epd.length()).toString().trim();
+    }
 
-        for (int i = 0; i < lenghtOfSection; ++i) {
-            char symbol = fenSections[0].charAt(i);;
+    /**
+     * Method that writes the full fen of a BitBoard, all six fields included
+     *
+     * @param bitBoard the position written
+     * @return the fen string
+     */
+    public static String getFen(BitBoard bitBoard){
+
+        StringBuilder fen = new StringBuilder(90);
+        appendFen(bitBoard, fen);
 
-            if (symbol == FenCharacter.NEXT_ROW_FEN.symbol) {
-                --rowCounter;
-                columnCounter = 0;
+        return fen.toString();
+    }
+
+    /**
+     * Method that appends the full fen of a BitBoard to a builder, so
+     * callers writing many positions can reuse one builder
+     *
+     * @param bitBoard the position written
+     * @param fen the builder fen is appended to
+     */
+    public static void appendFen(BitBoard bitBoard, StringBuilder fen){
 
-            } else if (Character.isDigit(symbol)) {
-                columnCounter += Character.getNumericValue(symbol);
+        appendEpdFields(bitBoard, fen);
 
-            } else {
+        fen.append(FIELD_SEPARATOR).append(bitBoard.getHalfMoveClock())
+                .append(FIELD_SEPARATOR).append(bitBoard.getFullMoveNumber());
+    }
 
-                if (symbol == FenCharacter.WHITE_KING_FEN.symbol) {
-                    allPieces.add(new King(new Coordinate(rowCounter, columnCounter), PieceColor.WHITE));
+    /**
+     * Method that writes the EPD line of a BitBoard, the first four
+     * fields of fen followed by the given operations
+     *
+     * @param bitBoard the position written
+     * @param operations the operations, empty for none
+     * @return the EPD line
+     */
+    public static String getEpd(BitBoard bitBoard, String operations){
 
-                } else if (symbol == FenCharacter.BLACK_KING_FEN.symbol) {
-                    allPieces.add(new King(new Coordinate(rowCounter, columnCounter), PieceColor.BLACK));
+        StringBuilder epd = new StringBuilder(90 + operations.length());
+        appendEpdFields(bitBoard, epd);
 
-                } else if (symbol == FenCharacter.WHITE_QUEEN_FEN.symbol) {
-                    allPieces.add(new Queen(new Coordinate(rowCounter, columnCounter), PieceColor.WHITE));
+        if(!operations.isEmpty()){
+            epd.append(FIELD_SEPARATOR).append(operations);
+        }
 
-                } else if (symbol == FenCharacter.BLACK_QUEEN_FEN.symbol) {
-                    allPieces.add(new Queen(new Coordinate(rowCounter, columnCounter), PieceColor.BLACK));
+        return epd.toString();
+    }
 
-                } else if (symbol == FenCharacter.WHITE_KNIGHT_FEN.symbol) {
-                    allPieces.add(new Knight(new Coordinate(rowCounter, columnCounter), PieceColor.WHITE));
+    /**
+     * Helper method for 'appendFen' and 'getEpd' that appends piece placement,
+     * side to move, castling rights and the en-passant square
+     *
+     * @param bitBoard the position written
+     * @param fen the builder fields are appended to
+     */
+    private static void appendEpdFields(BitBoard bitBoard, StringBuilder fen){
 
-                } else if (symbol == FenCharacter.BLACK_KNIGHT_FEN.symbol) {
-                    allPieces.add(new Knight(new Coordinate(rowCounter, columnCounter), PieceColor.BLACK));
+        for(int row = GameBoard.ROW_COUNT - 1; row >= 0; --row){
+            int emptyCount = 0;
 
-                } else if (symbol == FenCharacter.WHITE_ROOK_FEN.symbol) {
-                    allPieces.add(new Rook(new Coordinate(rowCounter, columnCounter), PieceColor.WHITE));
+            for(int column = 0; column < GameBoard.COLUM_COUNT; ++column){
+                int piece = bitBoard.getPieceAtSquare(BitBoard.getSquare(row, column));
 
-                } else if (symbol == FenCharacter.BLACK_ROOK_FEN.symbol) {
-                    allPieces.add(new Rook(new Coordinate(rowCounter, columnCounter), PieceColor.BLACK));
+                if(piece == BitBoard.NO_PIECE){
+                    ++emptyCount;
+                    continue;
+                }
 
-                } else if (symbol == FenCharacter.WHITE_BISHOP_FEN.symbol) {
-                    allPieces.add(new Bishop(new Coordinate(rowCounter, columnCounter), PieceColor.WHITE));
+                if(emptyCount != 0){
+                    fen.append((char) ('0' + emptyCount));
+                    emptyCount = 0;
+                }
+                fen.append(PIECE_SYMBOLS[piece]);
+            }
 
-                } else if (symbol == FenCharacter.BLACK_BISHOP_FEN.symbol) {
-                    allPieces.add(new Bishop(new Coordinate(rowCounter, columnCounter), PieceColor.BLACK));
+            if(emptyCount != 0){
+                fen.append((char) ('0' + emptyCount));
+            }
+            if(row != 0){
+                fen.append(FenCharacter.NEXT_ROW_FEN.symbol);
+            }
+        }
 
-                } else if (symbol == FenCharacter.BLACK_PAWN_FEN.symbol) {
-                    allPieces.add(new Pawn(new Coordinate(rowCounter, columnCounter), PieceColor.BLACK));
+        fen.append(FIELD_SEPARATOR).append(bitBoard.getSideToMove() == PieceColor.WHITE ? 'w' : 'b');
 
-                }else{
-                    //Coding decision - White Pawn is always the default case
-                    allPieces.add(new Pawn(new Coordinate(rowCounter, columnCounter), PieceColor.WHITE));
+        fen.append(FIELD_SEPARATOR);
+        int castlingRights = bitBoard.getCastlingRights();
 
+        if(castlingRights == 0){
+            fen.append(EMPTY_FIELD);
+        }else{
+            for(int i = 0; i < CASTLING_SYMBOLS.length; ++i){
+                if((castlingRights & (1 << i)) != 0){
+                    fen.append(CASTLING_SYMBOLS[i]);
                 }
+            }
+        }
+
+        fen.append(FIELD_SEPARATOR);
+        int enPassantSquare = bitBoard.getEnPassantSquare();
+
+        if(enPassantSquare == BitBoard.NO_SQUARE){
+            fen.append(EMPTY_FIELD);
+        }else{
+            fen.append((char) ('a' + BitBoard.getColumn(enPassantSquare)))
+                    .append((char) ('1' + BitBoard.getRow(enPassantSquare)));
+        }
+    }
+
+    // Helper method that gets the index of the first character after a run of separators
+    private static int skipSeparators(CharSequence fen, int index){
+
+        while(index < fen.length() && fen.charAt(index) == FIELD_SEPARATOR){
+            ++index;
+        }
+        return index;
+    }
+
+    // Helper method that checks a field ends at index, either with a separator or with the fen
+    private static int checkFieldEnd(CharSequence fen, int index){
+
+        if(index < fen.length() && fen.charAt(index) != FIELD_SEPARATOR){
+            throw new IllegalArgumentException("Unexpected '" + fen.charAt(index) + "' at index " + index + " of fen: " + fen);
+        }
+        return index;
+    }
+
+    // Helper method that counts the fields of a fen
+    private static int getFieldCount(CharSequence fen){
+
+        int fieldCount = 0;
+
+        for(int index = skipSeparators(fen, 0); index < fen.length(); index = skipSeparators(fen, index)){
+            ++fieldCount;
 
-                ++columnCounter;
+            while(index < fen.length() && fen.charAt(index) != FIELD_SEPARATOR){
+                ++index;
             }
         }
+        return fieldCount;
+    }
+
+    // Helper method that gets the bit index of a castling symbol, -1 if it is not one
+    private static int getCastlingIndex(char symbol){
 
-        //Decode the boardLayout based on list of pieces and their positions
-        for(ChessPiece piece : allPieces){
-            boardLayout[piece.getPosition().getRow()][piece.getPosition().getColumn()] = piece;
+        for(int i = 0; i < CASTLING_SYMBOLS.length; ++i){
+            if(CASTLING_SYMBOLS[i] == symbol){
+                return i;
+            }
         }
+        return -1;
+    }
 
-        return new FenData(allPieces, boardLayout);
+    private static boolean isDigit(char symbol){
+        return symbol >= '0' && symbol <= '9';
+    }
+
+    /**
+     * Helper method for 'getDataFromFen' that creates a chess piece
+     *
+     * @param type the type of piece
+     * @param position the position of piece
+     * @param color the color of piece
+     * @return the new piece
+     */
+    private static ChessPiece createPiece(PieceType type, Coordinate position, PieceColor color){
+
+        switch (type){
+            case KING -> {return new King(position, color);}
+            case QUEEN -> {return new Queen(position, color);}
+            case KNIGHT -> {return new Knight(position, color);}
+            case ROOK -> {return new Rook(position, color);}
+            case BISHOP -> {return new Bishop(position, color);}
+            default -> {return new Pawn(position, color);}
+        }
     }
 
     public static String getFenStringFromData(FenData fenData){
@@ -132,7 +447,9 @@ public final class FenUtility {
                 nullCounter = 0;
             }
 
-            fen.append(FenCharacter.NEXT_ROW_FEN.symbol);
+            if(i != 0){
+                fen.append(FenCharacter.NEXT_ROW_FEN.symbol);
+            }
         }
 
         return fen.toString();
@@ -390,6 +390,16 @@ public class GamePanel extends JPanel {
         colorPlayingPanel.colorPlayingLabel.setText(colorPlayingString.toString());
     }
 
+    /**
+     * Method that shows the statistics of the AI search as the tooltip
+     * of the color playing panel
+     *
+     * @param statistics the statistics of the last completed iteration
+     */
+    public void setSearchStatistics(String statistics){
+        colorPlayingPanel.colorPlayingLabel.setToolTipText("AI search: " + statistics);
+    }
+
     /**
      * Method that starts the right timer according to the given
      * color
@@ -410,6 +420,19 @@ public class GamePanel extends JPanel {
 
     }
 
+    /**
+     * Method that gets the time left on the clock of the given color
+     *
+     * @param color the given color
+     * @return the time left in milliseconds
+     */
+    public long getTimeLeftMillis(PieceColor color){
+
+        TimerPanel timerPanel = color == PieceColor.WHITE ? timerPanelWhite : timerPanelBlack;
+
+        return (long) (timerPanel.timeLeft * 60 * 1000);
+    }
+
     /**
      * Method for calculating the optimal board square size for the current panel
      * size
@@ -7,109 +7,104 @@ import javax.imageio.ImageIO;
 import java.awt.*;
 import java.io.File;
 import java.io.IOException;
-
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Class holding the images of all pieces and of the board. The images are
+ * read once per process, in parallel, and shared by every piece, so
+ * creating a piece never reads from disk.
+ */
 public class ImageUtility {
 
-    //Constants representing file paths to different piece images
-    public static final String WHITE_KING_IMAGE_PATH =
-            "src/com/chessgamepro/GUI/Resources/Images/wk.png";
-    public static final String BLACK_KING_IMAGE_PATH =
-            "src/com/chessgamepro/GUI/Resources/Images/bk.png";
-    public static final String WHITE_QUEEN_IMAGE_PATH =
-            "src/com/chessgamepro/GUI/Resources/Images/wq.png";
-    public static final String BLACK_QUEEN_IMAGE_PATH =
-            "src/com/chessgamepro/GUI/Resources/Images/bq.png";
-    public static final String WHITE_KNIGHT_IMAGE_PATH =
-            "src/com/chessgamepro/GUI/Resources/Images/wn.png";
-    public static final String BLACK_KNIGHT_IMAGE_PATH =
-            "src/com/chessgamepro/GUI/Resources/Images/bn.png";
-    public static final String WHITE_ROOK_IMAGE_PATH =
-            "src/com/chessgamepro/GUI/Resources/Images/wr.png";
-    public static final String BLACK_ROOK_IMAGE_PATH =
-            "src/com/chessgamepro/GUI/Resources/Images/br.png";
-    public static final String WHITE_BISHOP_IMAGE_PATH =
-            "src/com/chessgamepro/GUI/Resources/Images/wb.png";
-    public static final String BLACK_BISHOP_IMAGE_PATH =
-            "src/com/chessgamepro/GUI/Resources/Images/bb.png";
-    public static final String WHITE_PAWN_IMAGE_PATH =
-            "src/com/chessgamepro/GUI/Resources/Images/wp.png";
-    public static final String BLACK_PAWN_IMAGE_PATH =
-            "src/com/chessgamepro/GUI/Resources/Images/bp.png";
-
-    public static final String GAME_BOARD_IMAGE_PATH =
-            "src/com/chessgamepro/GUI/Resources/Images/board.png";
+    // Constant representing the classpath directory of images
+    private static final String IMAGE_DIRECTORY = "/com/chessgamepro/GUI/Resources/Images/";
+
+    // Constant representing the same directory on disk, used when images are not on the classpath
+    private static final String IMAGE_SOURCE_DIRECTORY = "src/com/chessgamepro/GUI/Resources/Images/";
+
+    // Constants representing file names of piece images, indexed by color ordinal * 6 + type ordinal
+    private static final String[] PIECE_IMAGE_NAMES = {
+            "wk.png", "wq.png", "wn.png", "wr.png", "wb.png", "wp.png",
+            "bk.png", "bq.png", "bn.png", "br.png", "bb.png", "bp.png"
+    };
+
+    private static final String GAME_BOARD_IMAGE_NAME = "board.png";
+
+    private static volatile Image[] pieceImages;
+    private static volatile Image gameBoardImage;
+
+    /**
+     * Method that reads all images, each one in its own task. Called at
+     * startup, later calls return at once.
+     */
+    public static synchronized void loadImages() {
+
+        if (pieceImages != null) {
+            return;
+        }
+
+        CompletableFuture<Image> gameBoardImageFuture =
+                CompletableFuture.supplyAsync(() -> readImage(GAME_BOARD_IMAGE_NAME));
+
+        CompletableFuture<?>[] pieceImageFutures = new CompletableFuture<?>[PIECE_IMAGE_NAMES.length];
+        Image[] loadedPieceImages = new Image[PIECE_IMAGE_NAMES.length];
+
+        for (int i = 0; i < PIECE_IMAGE_NAMES.length; ++i) {
+            int index = i;
+
+            pieceImageFutures[i] = CompletableFuture.runAsync(
+                    () -> loadedPieceImages[index] = readImage(PIECE_IMAGE_NAMES[index]));
+        }
+
+        CompletableFuture.allOf(pieceImageFutures).join();
+
+        gameBoardImage = gameBoardImageFuture.join();
+        pieceImages = loadedPieceImages;
+    }
 
     /**
-     * Method for initializing the image of a chess piece based on its type and colors
+     * Method for getting the image of a chess piece based on its type and color
      *
      * @param type the type of piece (Queen, King, Pawn...)
      * @param color the color of piece
-     * @return the image of piece
+     * @return the shared image of piece
      */
-    public static Image initializePieceImage(PieceType type, PieceColor color) {
-
-        if (color == PieceColor.WHITE) {
-            switch (type) {
-                case KING -> {
-                    return getImageAtPath(WHITE_KING_IMAGE_PATH);
-                }
-                case QUEEN -> {
-                    return getImageAtPath(WHITE_QUEEN_IMAGE_PATH);
-                }
-                case KNIGHT -> {
-                    return getImageAtPath(WHITE_KNIGHT_IMAGE_PATH);
-                }
-                case ROOK -> {
-                    return getImageAtPath(WHITE_ROOK_IMAGE_PATH);
-                }
-                case BISHOP -> {
-                    return getImageAtPath(WHITE_BISHOP_IMAGE_PATH);
-                }
-                default -> {
-                    return getImageAtPath(WHITE_PAWN_IMAGE_PATH);
-                }
-            }
-        } else {
-            switch (type) {
-                case KING -> {
-                    return getImageAtPath(BLACK_KING_IMAGE_PATH);
-                }
-                case QUEEN -> {
-                    return getImageAtPath(BLACK_QUEEN_IMAGE_PATH);
-                }
-                case KNIGHT -> {
-                    return getImageAtPath(BLACK_KNIGHT_IMAGE_PATH);
-                }
-                case ROOK -> {
-                    return getImageAtPath(BLACK_ROOK_IMAGE_PATH);
-                }
-                case BISHOP -> {
-                    return getImageAtPath(BLACK_BISHOP_IMAGE_PATH);
-                }
-                case PAWN -> {
-                    return getImageAtPath(BLACK_PAWN_IMAGE_PATH);
-                }
-                default -> {
-                    return getImageAtPath(WHITE_PAWN_IMAGE_PATH);
-                }
-            }
+    public static Image getPieceImage(PieceType type, PieceColor color) {
+
+        if (pieceImages == null) {
+            loadImages();
+        }
+
+        return pieceImages[color.ordinal() * PieceType.values().length + type.ordinal()];
+    }
+
+    // Method for getting the image of board
+    public static Image getGameBoardImage() {
+
+        if (pieceImages == null) {
+            loadImages();
         }
 
+        return gameBoardImage;
     }
 
     /**
-     * Method that retrieves an image at a specified path
+     * Helper method for 'loadImages' that reads an image from the classpath,
+     * or from the source directory if it was not copied to the classpath
      *
-     * @param path string representing the path to file
-     * @return image retrieved from file
+     * @param name the file name of image
+     * @return image retrieved from file, null if it could not be read
      */
-    public static Image getImageAtPath(String path) {
+    private static Image readImage(String name) {
 
         Image image = null;
 
-        try {
+        try (InputStream stream = ImageUtility.class.getResourceAsStream(IMAGE_DIRECTORY + name)) {
 
-            image = ImageIO.read(new File(path));
+            image = stream != null ?
+                    ImageIO.read(stream) :
+                    ImageIO.read(new File(IMAGE_SOURCE_DIRECTORY + name));
 
         } catch (IOException e) {
 
@@ -119,4 +114,4 @@ public class ImageUtility {
         return image;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+package com.chessgamepro.Game;
+
+import com.chessgamepro.ChessAI.ChessAI;
+import com.chessgamepro.GameBoard.Move;
+
+import javax.swing.*;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Class that runs a ChessAI search off the event dispatch thread and
+ * plays the move found once the search is done. Statistics of every
+ * completed iteration are shown by the game panel.
+ */
+public class ChessAIWorker extends SwingWorker<Move, String> {
+
+    private final Game game;
+    private final ChessAI chessAI;
+
+    /**
+     * Constructor for ChessAIWorker
+     *
+     * @param game the game the move is played in
+     * @param chessAI the AI searching for the move
+     */
+    public ChessAIWorker(Game game, ChessAI chessAI){
+        this.game = game;
+        this.chessAI = chessAI;
+
+        chessAI.setSearchListener(statistics -> publish(statistics.toString()));
+    }
+
+    @Override
+    protected Move doInBackground() throws Exception {
+        return chessAI.search(game.getGameBoard());
+    }
+
+    @Override
+    protected void process(List<String> iterationStatistics) {
+        game.showSearchStatistics(iterationStatistics.get(iterationStatistics.size() - 1));
+    }
+
+    @Override
+    protected void done() {
+        try{
+            Move AIMove = get();
+            game.makeMove(AIMove);
+
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
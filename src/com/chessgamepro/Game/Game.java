@@ -5,8 +5,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.chessgamepro.ChessAI.ChessAI;
+import com.chessgamepro.ChessAI.ReplacementPolicy;
+import com.chessgamepro.ChessAI.TimeManager;
+import com.chessgamepro.ChessAI.TranspositionTable;
 import com.chessgamepro.ChessPieces.*;
 import com.chessgamepro.GUI.GamePanel;
+import com.chessgamepro.GUI.ImageUtility;
 import com.chessgamepro.GUI.Screen;
 import com.chessgamepro.GameBoard.Coordinate;
 import com.chessgamepro.GameBoard.GameBoard;
@@ -21,6 +25,13 @@ import javax.swing.*;
  * related to the chess game
  */
 public class Game {
+
+    // Time the AI takes for a move when the game is not timed
+    public static final long UNTIMED_MOVE_TIME_MILLIS = 2000;
+
+    // Threads the AI searches with, one for every core
+    public static final int AI_THREAD_COUNT = ChessAI.DEFAULT_THREAD_COUNT;
+
     private final GamePanel gamePanel;
 
     private final GameBoard gameBoard;
@@ -35,6 +46,9 @@ public class Game {
     private boolean isBlackAI;
     private boolean isTimeControlled;
 
+    // Search results kept for the whole game, every AI move reuses them
+    private final TranspositionTable transpositionTable;
+
     /**
      * Constructor for Game
      */
@@ -65,6 +79,11 @@ public class Game {
         isBlackAI = false;
 
         isTimeControlled = false;
+
+        transpositionTable = new TranspositionTable(
+                TranspositionTable.DEFAULT_SIZE_IN_MEGABYTES,
+                ReplacementPolicy.AGED_DEPTH_PREFERRED
+        );
     }
 
     /**
@@ -82,13 +101,14 @@ public class Game {
 
         if(isColorPlayingAI()){
             ChessAI chessAI = new ChessAI(
-                    this,
                     colorPlayingLegalMoves,
                     colorPlaying == PieceColor.WHITE,
-                    3
+                    getTimeManager(),
+                    transpositionTable
             );
+            chessAI.setThreadCount(AI_THREAD_COUNT);
 
-            chessAI.execute();
+            new ChessAIWorker(this, chessAI).execute();
 
         }
 
@@ -164,7 +184,7 @@ public class Game {
             }
 
             g.drawImage(
-                    piece.getPieceImage(),
+                    ImageUtility.getPieceImage(piece.getType(), piece.getColor()),
                     getXFromColumn(piece.getPosition().getColumn()),
                     getYFromRow(piece.getPosition().getRow()),
                     gamePanel.getSquareSize(),
@@ -303,7 +323,7 @@ public class Game {
             ChessPiece selectedPiece = getSelectedPiece();
 
             g.drawImage(
-                    selectedPiece.getPieceImage(),
+                    ImageUtility.getPieceImage(selectedPiece.getType(), selectedPiece.getColor()),
                     x - gamePanel.getSquareSize()/2,
                     y - gamePanel.getSquareSize()/2,
                     gamePanel.getSquareSize(),
@@ -341,7 +361,7 @@ public class Game {
 
             int pieceSize = toFitInOneRow ? panelWidth / 8: panelHeight / 2;
 
-            g.drawImage(capturedWhitePiece.getPieceImage(),
+            g.drawImage(ImageUtility.getPieceImage(capturedWhitePiece.getType(), capturedWhitePiece.getColor()),
                     x + pieceSize / 2 * piecesInRowCounter + panelWidth / 26,
                     y,
                     pieceSize,
@@ -505,13 +525,14 @@ public class Game {
 
         if(isColorPlayingAI()){
             ChessAI chessAI = new ChessAI(
-                    this,
                     colorPlayingLegalMoves,
                     colorPlaying == PieceColor.WHITE,
-                    3
+                    getTimeManager(),
+                    transpositionTable
             );
+            chessAI.setThreadCount(AI_THREAD_COUNT);
 
-            chessAI.execute();
+            new ChessAIWorker(this, chessAI).execute();
 
         }
     }
@@ -530,6 +551,21 @@ public class Game {
         System.exit(0);
     }
 
+    /**
+     * Method that creates the time manager for the next AI move, the time
+     * is taken from the clock of the color playing if the game is timed
+     *
+     * @return a new time manager
+     */
+    private TimeManager getTimeManager(){
+
+        if(isTimeControlled){
+            return new TimeManager(gamePanel.getTimeLeftMillis(colorPlaying), 0);
+        }
+
+        return new TimeManager(UNTIMED_MOVE_TIME_MILLIS);
+    }
+
     /**
      * Method that checks if the color playing is AI
      *
@@ -540,6 +576,15 @@ public class Game {
                 (isBlackAI && colorPlaying == PieceColor.BLACK);
     }
 
+    /**
+     * Method that shows the statistics of the running AI search
+     *
+     * @param statistics the statistics of the last completed iteration
+     */
+    public void showSearchStatistics(String statistics){
+        gamePanel.setSearchStatistics(statistics);
+    }
+
     /**
      * Method that checks if AI is in game at all
      */
@@ -1,5 +1,7 @@
 package com.chessgamepro.GameBoard;
 
+import com.chessgamepro.BitBoard.BitBoard;
+import com.chessgamepro.BitBoard.BitBoardAdapter;
 import com.chessgamepro.ChessPieces.*;
 import com.chessgamepro.FenUtility.FenCharacter;
 import com.chessgamepro.FenUtility.FenData;
@@ -19,7 +21,11 @@ public class GameBoard {
 
     private final ChessPiece[][] boardLayout;
     private final List<ChessPiece> allPieces;
-    private final Stack<Move> lastMoves;
+    private final MoveHistory moveHistory;
+
+    // Same position held in 64-bit piece sets, kept in sync with boardLayout. It also
+    // holds the side to move, the irreversible state and the Zobrist key of position
+    private final BitBoard bitBoard;
 
     // Keep track of captured pieces, only used for displaying
     private final List<ChessPiece> capturedWhitePieces;
@@ -37,10 +43,23 @@ public class GameBoard {
         this.allPieces = decodedFenData.allPieces();
         this.boardLayout = decodedFenData.boardLayout();
 
+        bitBoard = new BitBoard();
+        for(ChessPiece piece : allPieces){
+            bitBoard.addPiece(BitBoardAdapter.getSquare(piece.getPosition()), BitBoardAdapter.getPiece(piece));
+        }
+
         capturedWhitePieces = new ArrayList<>();
         capturedBlackPieces = new ArrayList<>();
 
-        lastMoves = new Stack<>();
+        moveHistory = new MoveHistory();
+
+        // A fen holding only piece placement leaves castling to the unmoved pieces
+        bitBoard.setCastlingRights(decodedFenData.castlingRights() == FenData.UNKNOWN_CASTLING_RIGHTS ?
+                getCastlingRightsFromPieces() : decodedFenData.castlingRights());
+        bitBoard.setSideToMove(decodedFenData.sideToMove());
+        bitBoard.setEnPassantSquare(decodedFenData.enPassantSquare());
+        bitBoard.setHalfMoveClock(decodedFenData.halfMoveClock());
+        bitBoard.setFullMoveNumber(decodedFenData.fullMoveNumber());
     }
 
     /**
@@ -56,29 +75,78 @@ public class GameBoard {
         this.capturedBlackPieces = new ArrayList<>();
         this.boardLayout = new ChessPiece[ROW_COUNT][COLUM_COUNT];
 
+        // Every piece is copied once, so that pieces on the board and the ones
+        // held by move records stay the same objects in the copy
+        Map<ChessPiece, ChessPiece> pieceCopies = new IdentityHashMap<>();
+
         for(ChessPiece piece : gameBoard.allPieces){
-            ChessPiece pieceCopy = piece.getCopy();
+            ChessPiece pieceCopy = pieceCopies.computeIfAbsent(piece, ChessPiece::getCopy);
 
             this.allPieces.add(pieceCopy);
             this.boardLayout[pieceCopy.getPosition().getRow()][pieceCopy.getPosition().getColumn()] =
                     pieceCopy;
         }
 
-        this.lastMoves = new Stack<>();
+        for(ChessPiece capturedPiece : gameBoard.capturedWhitePieces){
+            this.capturedWhitePieces.add(pieceCopies.computeIfAbsent(capturedPiece, ChessPiece::getCopy));
+        }
+        for(ChessPiece capturedPiece : gameBoard.capturedBlackPieces){
+            this.capturedBlackPieces.add(pieceCopies.computeIfAbsent(capturedPiece, ChessPiece::getCopy));
+        }
 
-        if(gameBoard.lastMoves != null){
+        this.bitBoard = new BitBoard(gameBoard.bitBoard);
 
-            Stack<Move> intermediateStack = new Stack<>();
+        this.moveHistory = new MoveHistory(gameBoard.moveHistory, pieceCopies);
+    }
 
-            intermediateStack.addAll(gameBoard.lastMoves);
+    /**
+     * Helper method for the GameBoard constructor that reads the castling
+     * rights from the Kings and Rooks that have not moved
+     *
+     * @return the castling rights, one bit per right as in BitBoard
+     */
+    private int getCastlingRightsFromPieces(){
+
+        int castlingRights = 0;
 
-            this.lastMoves.addAll(intermediateStack);
+        if(isUnmovedAtSquare(PieceType.KING, PieceColor.WHITE, 0, 4)){
+            if(isUnmovedAtSquare(PieceType.ROOK, PieceColor.WHITE, 0, 7)){
+                castlingRights |= BitBoard.WHITE_KING_SIDE_CASTLE;
+            }
+            if(isUnmovedAtSquare(PieceType.ROOK, PieceColor.WHITE, 0, 0)){
+                castlingRights |= BitBoard.WHITE_QUEEN_SIDE_CASTLE;
+            }
         }
+        if(isUnmovedAtSquare(PieceType.KING, PieceColor.BLACK, 7, 4)){
+            if(isUnmovedAtSquare(PieceType.ROOK, PieceColor.BLACK, 7, 7)){
+                castlingRights |= BitBoard.BLACK_KING_SIDE_CASTLE;
+            }
+            if(isUnmovedAtSquare(PieceType.ROOK, PieceColor.BLACK, 7, 0)){
+                castlingRights |= BitBoard.BLACK_QUEEN_SIDE_CASTLE;
+            }
+        }
+
+        return castlingRights;
+    }
+
+    /**
+     * Helper method for 'getCastlingRightsFromPieces' that checks if a piece
+     * that has never moved stands at a square
+     */
+    private boolean isUnmovedAtSquare(PieceType type, PieceColor color, int row, int column){
+
+        ChessPiece piece = boardLayout[row][column];
+
+        return piece != null &&
+                piece.getType() == type &&
+                piece.getColor() == color &&
+                !piece.getHasMoved();
     }
 
     /**
      * Overridden method that checks if a given GameBoard is equal to
-     * this instance of GameBoard
+     * this instance of GameBoard. Zobrist keys are compared first, so
+     * boards holding different positions are told apart in O(1).
      *
      * @param obj the object checking for
      * @return true if they are equal, false otherwise
@@ -90,19 +158,28 @@ public class GameBoard {
             return false;
         }
 
+        if(bitBoard.getZobristKey() != otherGameBoard.bitBoard.getZobristKey() ||
+                !bitBoard.equals(otherGameBoard.bitBoard)){
+            return false;
+        }
+
+        // Same placement, pieces must also agree on whether they have moved
         for(ChessPiece piece : allPieces){
-            if(!otherGameBoard.allPieces.contains(piece)){
+            ChessPiece otherPiece = otherGameBoard.getPieceAtSquare(piece.getPosition());
+
+            if(!piece.equals(otherPiece)){
                 return false;
             }
         }
 
-        if(allPieces.size() != otherGameBoard.allPieces.size()){
-            return false;
-        }
-
         return true;
     }
 
+    @Override
+    public int hashCode() {
+        return bitBoard.hashCode();
+    }
+
     /**
      * Method for moving a piece to a square on the board
      *
@@ -110,40 +187,56 @@ public class GameBoard {
      */
     public void makeMove(Move move){
 
-        Coordinate from = move.getFrom();
-        Coordinate to = move.getTo();
-        ChessPiece pieceMoving = getPieceAtSquare(from);
+        ChessPiece pieceMoving = getPieceAtSquare(move.getFrom());
+        ChessPiece promotedPiece = null;
+
+        if(move.getIsPromotion() && move.getPromotedPieceType() != null){
+            promotedPiece = pieceMoving.getPromotedPiece(move.getPromotedPieceType());
+        }
+
+        MoveRecord moveRecord = moveHistory.push();
+        moveRecord.set(move, pieceMoving, promotedPiece, bitBoard.getSideToMove(), bitBoard.getCastlingRights(),
+                bitBoard.getEnPassantSquare(), bitBoard.getHalfMoveClock(), bitBoard.getZobristKey());
 
         if(move.getIsCapture()){
             for(ChessPiece capturedPiece : move.getCapturedPieces()){
 
-                allPieces.remove(capturedPiece);
-                boardLayout[capturedPiece.getPosition().getRow()][capturedPiece.getPosition().getColumn()] = null;
+                // Remove the piece standing on the board, the move may hold a copy of it
+                ChessPiece boardPiece = getPieceAtSquare(capturedPiece.getPosition());
+
+                if(boardPiece == null){
+                    continue;
+                }
+
+                removePiece(boardPiece);
+                moveRecord.addCapturedPiece(boardPiece);
 
-                if(capturedPiece.getColor() == PieceColor.WHITE){
-                    capturedWhitePieces.add(capturedPiece);
+                if(boardPiece.getColor() == PieceColor.WHITE){
+                    capturedWhitePieces.add(boardPiece);
                 }else{
-                    capturedBlackPieces.add(capturedPiece);
+                    capturedBlackPieces.add(boardPiece);
                 }
             }
         }
 
         if(move.getIsMoveTrigger()){
             for(Move triggeredMove : move.getTriggeredMoves()){
-                makeMove(triggeredMove);
+                ChessPiece triggeredPiece = getPieceAtSquare(triggeredMove.getFrom());
+
+                moveRecord.addTriggeredPiece(triggeredPiece);
+                movePiece(triggeredPiece, triggeredMove.getTo());
+                triggeredPiece.setHasMoved(true);
             }
         }
 
-        if(move.getIsPromotion() && move.getPromotedPieceType() != null){
-            allPieces.remove(pieceMoving);
-            pieceMoving = pieceMoving.getPromotedPiece(move.getPromotedPieceType());
-            allPieces.add(pieceMoving);
-        }
+        // Make the move, a promoting piece is replaced on the square it lands on
+        movePiece(pieceMoving, move.getTo());
 
-        // Make the move
-        boardLayout[to.getRow()][to.getColumn()] = pieceMoving;
-        boardLayout[from.getRow()][from.getColumn()] = null;
-        pieceMoving.setPosition(to.getCopy());
+        if(promotedPiece != null){
+            removePiece(pieceMoving);
+            promotedPiece.setPosition(move.getTo().getCopy());
+            addPiece(promotedPiece);
+        }
 
         // If piece has not moved yet then this the first move for this piece
         if(!pieceMoving.getHasMoved()){
@@ -151,11 +244,29 @@ public class GameBoard {
         }
         pieceMoving.setHasMoved(true);
 
-        // Update stack lastMoves, keep track of up to 3 moves
-        lastMoves.push(move);
-        if(lastMoves.size() > 3){
-            lastMoves.remove(0);
+        if(promotedPiece != null){
+            promotedPiece.setHasMoved(true);
         }
+
+        // Update irreversible state
+        int from = BitBoardAdapter.getSquare(move.getFrom());
+        int to = BitBoardAdapter.getSquare(move.getTo());
+
+        bitBoard.setCastlingRights(BitBoard.updateCastlingRights(bitBoard.getCastlingRights(), from, to));
+
+        if(pieceMoving.getType() == PieceType.PAWN && Math.abs(move.getRowOffset()) == 2){
+            bitBoard.setEnPassantSquare((from + to) / 2);
+        }else{
+            bitBoard.setEnPassantSquare(BitBoard.NO_SQUARE);
+        }
+
+        if(pieceMoving.getType() == PieceType.PAWN || !moveRecord.getCapturedPieces().isEmpty()){
+            bitBoard.setHalfMoveClock(0);
+        }else{
+            bitBoard.setHalfMoveClock(bitBoard.getHalfMoveClock() + 1);
+        }
+
+        bitBoard.setSideToMove(pieceMoving.getColor().getOppositeColor());
     }
 
     /**
@@ -163,41 +274,96 @@ public class GameBoard {
      */
     public void undoMove(){
 
-        if(lastMoves.size() == 0){
+        if(moveHistory.size() == 0){
             return;
         }
 
-        Move move = lastMoves.pop();
+        MoveRecord moveRecord = moveHistory.pop();
+        Move move = moveRecord.getMove();
+        ChessPiece pieceMoving = moveRecord.getPieceMoving();
 
-        // Reversed to and from coordinates
-        Coordinate from = move.getTo();
-        Coordinate to = move.getFrom();
-        ChessPiece pieceMoving = getPieceAtSquare(from);
-
-        // If move being undone is first move of piece then update the hasMoved to false
-        if(move.getIsFirstMove()){
-            pieceMoving.setHasMoved(false);
-        }
-
-        // First undo all moves that were triggered by this move
-        int triggeredMovesCount = move.getTriggeredMoves().size();
-        for(int i = 0; i < triggeredMovesCount; ++i){
-            undoMove();
+        // Turn the promoted piece back into the piece that moved
+        if(moveRecord.getPromotedPiece() != null){
+            removePiece(moveRecord.getPromotedPiece());
+            addPiece(pieceMoving);
         }
 
         // Make the reverse move
-        boardLayout[to.getRow()][to.getColumn()] = pieceMoving;
-        boardLayout[from.getRow()][from.getColumn()] = null;
-        pieceMoving.setPosition(to.getCopy());
+        movePiece(pieceMoving, move.getFrom());
+        pieceMoving.setHasMoved(moveRecord.getPieceMovingHasMoved());
+
+        // Undo all moves that were triggered by this move
+        List<ChessPiece> triggeredPieces = moveRecord.getTriggeredPieces();
+        for(int i = triggeredPieces.size() - 1; i >= 0; --i){
+            ChessPiece triggeredPiece = triggeredPieces.get(i);
+
+            movePiece(triggeredPiece, move.getTriggeredMoves().get(i).getFrom());
+            triggeredPiece.setHasMoved(moveRecord.getTriggeredPiecesHaveMoved().get(i));
+        }
 
         // 'Bring back' all pieces that were captured
-        if(move.getIsCapture()){
-            for(ChessPiece capturedPiece : move.getCapturedPieces()){
-                allPieces.add(capturedPiece);
-                boardLayout[capturedPiece.getPosition().getRow()][capturedPiece.getPosition().getColumn()] =
-                        capturedPiece;
+        for(ChessPiece capturedPiece : moveRecord.getCapturedPieces()){
+            addPiece(capturedPiece);
+
+            if(capturedPiece.getColor() == PieceColor.WHITE){
+                capturedWhitePieces.remove(capturedWhitePieces.size() - 1);
+            }else{
+                capturedBlackPieces.remove(capturedBlackPieces.size() - 1);
             }
         }
+
+        // Restore state last, the saved key replaces the one changed by moving pieces back
+        bitBoard.restoreState(moveRecord.getSideToMove(), moveRecord.getCastlingRights(), moveRecord.getEnPassantSquare(),
+                moveRecord.getHalfMoveClock(), moveRecord.getZobristKey());
+    }
+
+    /**
+     * Helper method for 'makeMove' and 'undoMove' that moves a piece
+     * standing on the board to a square
+     *
+     * @param piece the piece being moved
+     * @param to coordinate of square to which piece moves
+     */
+    private void movePiece(ChessPiece piece, Coordinate to){
+
+        Coordinate from = piece.getPosition();
+
+        boardLayout[from.getRow()][from.getColumn()] = null;
+        boardLayout[to.getRow()][to.getColumn()] = piece;
+        piece.setPosition(to.getCopy());
+
+        bitBoard.removePiece(BitBoardAdapter.getSquare(from));
+        bitBoard.addPiece(BitBoardAdapter.getSquare(to), BitBoardAdapter.getPiece(piece));
+    }
+
+    /**
+     * Helper method for 'makeMove' and 'undoMove' that puts a piece
+     * on the board at its position
+     *
+     * @param piece the piece being added
+     */
+    private void addPiece(ChessPiece piece){
+
+        Coordinate position = piece.getPosition();
+
+        allPieces.add(piece);
+        boardLayout[position.getRow()][position.getColumn()] = piece;
+        bitBoard.addPiece(BitBoardAdapter.getSquare(position), BitBoardAdapter.getPiece(piece));
+    }
+
+    /**
+     * Helper method for 'makeMove' and 'undoMove' that takes a piece
+     * off the board
+     *
+     * @param piece the piece being removed
+     */
+    private void removePiece(ChessPiece piece){
+
+        Coordinate position = piece.getPosition();
+
+        allPieces.remove(piece);
+        boardLayout[position.getRow()][position.getColumn()] = null;
+        bitBoard.removePiece(BitBoardAdapter.getSquare(position));
     }
 
     /**
@@ -225,11 +391,11 @@ public class GameBoard {
      */
     public boolean isColorAtSquare(Coordinate coordinate, PieceColor color){
 
-        if(isSquareOutOfBounds(coordinate) || isSquareEmpty(coordinate)){
+        if(isSquareOutOfBounds(coordinate)){
             return false;
         }
 
-        return getPieceAtSquare(coordinate).getColor() == color;
+        return bitBoard.isColorAtSquare(BitBoardAdapter.getSquare(coordinate), color);
     }
 
     /**
@@ -241,11 +407,11 @@ public class GameBoard {
      */
     public boolean isTypeAtSquare(Coordinate coordinate, PieceType type){
 
-        if(isSquareOutOfBounds(coordinate) || isSquareEmpty(coordinate)){
+        if(isSquareOutOfBounds(coordinate)){
             return false;
         }
 
-        return getPieceAtSquare(coordinate).getType() == type;
+        return bitBoard.isTypeAtSquare(BitBoardAdapter.getSquare(coordinate), type);
     }
 
     /**
@@ -255,7 +421,12 @@ public class GameBoard {
      * @return true if empty, false otherwise
      */
     public boolean isSquareEmpty(Coordinate coordinate){
-        return getPieceAtSquare(coordinate) == null;
+
+        if(isSquareOutOfBounds(coordinate)){
+            return true;
+        }
+
+        return bitBoard.isSquareEmpty(BitBoardAdapter.getSquare(coordinate));
     }
 
     /**
@@ -280,30 +451,86 @@ public class GameBoard {
      */
     public boolean areSquaresInCheck(PieceColor opponentColor, Coordinate...squares){
 
-        List<Move> opponentMoves = MoveHelper.getColorMoves(opponentColor, this,
-                false, true);
-
-        for(Move opponentMove : opponentMoves){
+        for(Coordinate square : squares){
 
-            for(Coordinate square : squares){
-
-                if(opponentMove.getTo().equals(square)){
-                    return true;
-                }
+            if(isSquareAttacked(square, opponentColor)){
+                return true;
             }
         }
         return false;
     }
 
+    /**
+     * Method that checks if a square is attacked by any piece of a color,
+     * without generating the moves of that color
+     *
+     * @param square the coordinate of the square
+     * @param byColor the color of attacking pieces
+     * @return true if the square is attacked, false otherwise or if out of bounds
+     */
+    public boolean isSquareAttacked(Coordinate square, PieceColor byColor){
+
+        if(isSquareOutOfBounds(square)){
+            return false;
+        }
+
+        return bitBoard.isSquareAttacked(BitBoardAdapter.getSquare(square), byColor);
+    }
+
+    /**
+     * Method that checks if the King of a color is in check
+     *
+     * @param color the color of King
+     * @return true if King of color is attacked, false otherwise
+     */
+    public boolean isKingInCheck(PieceColor color){
+        return bitBoard.isKingInCheck(color);
+    }
+
     /**
      * Method for getting last move made on board
      */
     public Move getLastMove(){
-        if(lastMoves.size() == 0){
+        if(moveHistory.size() == 0){
             return null;
         }
 
-        return lastMoves.peek();
+        return moveHistory.peek().getMove();
+    }
+
+    /**
+     * Method for getting the number of moves that can be undone
+     *
+     * @return the size of move history
+     */
+    public int getHistorySize(){
+        return moveHistory.size();
+    }
+
+    // Methods for getting the irreversible state of the board
+    public int getCastlingRights(){
+        return bitBoard.getCastlingRights();
+    }
+    public int getEnPassantSquare(){
+        return bitBoard.getEnPassantSquare();
+    }
+    public int getHalfMoveClock(){
+        return bitBoard.getHalfMoveClock();
+    }
+
+    // Method for getting the color whose turn it is, White until a move is made
+    public PieceColor getSideToMove(){
+        return bitBoard.getSideToMove();
+    }
+
+    /**
+     * Method for getting the Zobrist key of the position on board, it is
+     * updated incrementally by 'makeMove' and 'undoMove'
+     *
+     * @return the 64-bit key of position
+     */
+    public long getZobristKey(){
+        return bitBoard.getZobristKey();
     }
 
     /**
@@ -315,6 +542,15 @@ public class GameBoard {
         return allPieces;
     }
 
+    /**
+     * Method that returns the BitBoard kept in sync with this GameBoard
+     *
+     * @return the BitBoard of this GameBoard
+     */
+    public BitBoard getBitBoard(){
+        return bitBoard;
+    }
+
     // Methods for getting the captured pieces lists
     public List<ChessPiece> getCapturedWhitePieces(){
         return capturedWhitePieces;
@@ -364,9 +600,9 @@ public class GameBoard {
             System.out.print((i + 1) + "  ");
 
             for(int j = 0; j < COLUM_COUNT; ++j){
-                if(lastMoves.size() > 0 &&
-                lastMoves.peek().getFrom().getRow() == i &&
-                lastMoves.peek().getFrom().getColumn() == j){
+                if(getLastMove() != null &&
+                getLastMove().getFrom().getRow() == i &&
+                getLastMove().getFrom().getColumn() == j){
                     System.out.print("#  ");
                 }else if(boardLayout[i][j] == null){
                     System.out.print("-  ");
@@ -1,5 +1,8 @@
 package com.chessgamepro.GameBoard;
 
+import com.chessgamepro.BitBoard.BitBoard;
+import com.chessgamepro.BitBoard.BitBoardAdapter;
+import com.chessgamepro.BitBoard.MoveGenerator;
 import com.chessgamepro.ChessPieces.*;
 import com.chessgamepro.ChessPieces.PieceMove.PieceMove;
 import com.chessgamepro.ChessPieces.PieceMove.MoveCondition;
@@ -23,7 +26,23 @@ public final class MoveHelper {
      */
     public static List<Move> getPieceMoves(ChessPiece piece, GameBoard gameBoard,
                                            boolean toCheckIfLegal, boolean toFragmentPromotionMove){
+
+        long[] legalTargets = toCheckIfLegal ? getLegalTargets(piece.getColor(), gameBoard) : null;
+
+        return getPieceMoves(piece, gameBoard, legalTargets, toFragmentPromotionMove);
+    }
+
+    /**
+     * Helper method for 'getPieceMoves' and 'getColorMoves' that gets all
+     * piece moves, keeping only the ones found in the legal targets
+     *
+     * @param legalTargets the squares every square may legally move to,
+     *                     null if legality is not checked
+     */
+    private static List<Move> getPieceMoves(ChessPiece piece, GameBoard gameBoard,
+                                            long[] legalTargets, boolean toFragmentPromotionMove){
         List<PieceMove> movePattern = piece.getMovePattern();
+        int from = BitBoardAdapter.getSquare(piece.getPosition());
         List<Move> moveList = new ArrayList<>();
 
         // Go through all piece moves in its movement pattern
@@ -55,11 +74,9 @@ public final class MoveHelper {
                                 to.getCopy()
                         );
 
-                        if(toCheckIfLegal){
-
-                            if(!moveCondition.testLegal(gameBoard, piece, move)){
-                                continue;
-                            }
+                        if(legalTargets != null &&
+                                (legalTargets[from] & (1L << BitBoardAdapter.getSquare(to))) == 0){
+                            continue;
                         }
 
                         if(move.getIsPromotion() && toFragmentPromotionMove){
@@ -108,15 +125,42 @@ public final class MoveHelper {
                                            boolean toCheckIfLegal, boolean toFragmentPromotionMove){
 
         List<Move> movesList = new ArrayList<>();
+        long[] legalTargets = toCheckIfLegal ? getLegalTargets(color, gameBoard) : null;
 
-        for(ChessPiece piece : gameBoard.getAllPieces()){
+        // Walk only the squares holding pieces of given color
+        long colorSquares = gameBoard.getBitBoard().getColorBitBoard(color);
 
-            if(piece.getColor() == color){
-                movesList.addAll(getPieceMoves(piece, gameBoard, toCheckIfLegal, toFragmentPromotionMove));
-            }
+        while(colorSquares != 0){
+            int square = Long.numberOfTrailingZeros(colorSquares);
+            colorSquares &= colorSquares - 1;
+
+            ChessPiece piece = gameBoard.getPieceAtSquare(BitBoardAdapter.getCoordinate(square));
+            movesList.addAll(getPieceMoves(piece, gameBoard, legalTargets, toFragmentPromotionMove));
         }
 
         return movesList;
     }
 
+    /**
+     * Helper method that gets the legal moves of a color from the BitBoard
+     * move generator as sets of target squares, one set for every square
+     *
+     * @param color the given color
+     * @param gameBoard the given game board
+     * @return the squares every square may legally move to
+     */
+    private static long[] getLegalTargets(PieceColor color, GameBoard gameBoard){
+
+        int[] legalMoves = new int[MoveGenerator.MAX_MOVES];
+        int legalMoveCount = MoveGenerator.generateLegalMoves(gameBoard.getBitBoard(), color, legalMoves);
+
+        long[] legalTargets = new long[BitBoard.SQUARE_COUNT];
+
+        for(int i = 0; i < legalMoveCount; ++i){
+            legalTargets[MoveGenerator.getFrom(legalMoves[i])] |= 1L << MoveGenerator.getTo(legalMoves[i]);
+        }
+
+        return legalTargets;
+    }
+
 }
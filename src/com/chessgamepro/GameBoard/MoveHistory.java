@@ -0,0 +1,87 @@
+package com.chessgamepro.GameBoard;
+
+import com.chessgamepro.ChessPieces.ChessPiece;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * An unsynchronized stack of move records backed by an array. Records are
+ * created once per ply and reused, so pushing and popping are O(1) and
+ * allocate nothing once the history has grown to the depth in use.
+ */
+class MoveHistory {
+
+    // Capacity of a new history, doubled every time it fills up
+    private static final int INITIAL_CAPACITY = 64;
+
+    private MoveRecord[] records;
+    private int size;
+
+    /**
+     * Constructor for an empty MoveHistory
+     */
+    MoveHistory(){
+        records = new MoveRecord[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Copy constructor for MoveHistory, the records are copied through
+     * the given mapping of pieces
+     *
+     * @param moveHistory the reference MoveHistory being copied
+     * @param pieceCopies pieces of the original GameBoard mapped to their copies
+     */
+    MoveHistory(MoveHistory moveHistory, Map<ChessPiece, ChessPiece> pieceCopies){
+
+        records = new MoveRecord[Math.max(INITIAL_CAPACITY, moveHistory.records.length)];
+        size = 0;
+
+        for(int i = 0; i < moveHistory.size; ++i){
+            push().copy(moveHistory.records[i], pieceCopies);
+        }
+    }
+
+    /**
+     * Method that puts a new record on top of the history
+     *
+     * @return the record to be filled by the caller
+     */
+    MoveRecord push(){
+
+        if(size == records.length){
+            records = Arrays.copyOf(records, records.length * 2);
+        }
+
+        if(records[size] == null){
+            records[size] = new MoveRecord();
+        }
+
+        return records[size++];
+    }
+
+    /**
+     * Method that takes the top record off the history. The record stays
+     * valid only until the next push.
+     *
+     * @return the removed record
+     */
+    MoveRecord pop(){
+        return records[--size];
+    }
+
+    /**
+     * Method that gets the top record without removing it
+     *
+     * @return the top record, null if the history is empty
+     */
+    MoveRecord peek(){
+        return size == 0 ? null : records[size - 1];
+    }
+
+    // Method for getting the number of records in the history
+    int size(){
+        return size;
+    }
+}
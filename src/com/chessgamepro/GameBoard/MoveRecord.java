@@ -0,0 +1,159 @@
+package com.chessgamepro.GameBoard;
+
+import com.chessgamepro.ChessPieces.ChessPiece;
+import com.chessgamepro.ChessPieces.PieceColor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A class holding all the state GameBoard needs to undo a move that
+ * cannot be recovered from the move itself. Records are owned by
+ * MoveHistory and reused for every move made at the same ply.
+ */
+class MoveRecord {
+
+    private Move move;
+    private ChessPiece pieceMoving;
+    private boolean pieceMovingHasMoved;
+    private ChessPiece promotedPiece;
+    private final List<ChessPiece> capturedPieces;
+    private final List<ChessPiece> triggeredPieces;
+    private final List<Boolean> triggeredPiecesHaveMoved;
+
+    // Irreversible board state from before the move was made
+    private PieceColor sideToMove;
+    private int castlingRights;
+    private int enPassantSquare;
+    private int halfMoveClock;
+    private long zobristKey;
+
+    /**
+     * Constructor for an empty MoveRecord
+     */
+    MoveRecord(){
+        capturedPieces = new ArrayList<>(1);
+        triggeredPieces = new ArrayList<>(1);
+        triggeredPiecesHaveMoved = new ArrayList<>(1);
+    }
+
+    /**
+     * Method that fills this record for a new move, anything stored
+     * by a previous move is cleared
+     *
+     * @param move the move that was made
+     * @param pieceMoving the piece that made the move, before any promotion
+     * @param promotedPiece the piece that replaced pieceMoving, null if the
+     *                      move is not a promotion
+     * @param sideToMove the color whose turn it was before the move
+     * @param castlingRights the castling rights before the move
+     * @param enPassantSquare the en-passant square before the move
+     * @param halfMoveClock the half move clock before the move
+     * @param zobristKey the Zobrist key of position before the move
+     */
+    void set(Move move, ChessPiece pieceMoving, ChessPiece promotedPiece,
+             PieceColor sideToMove, int castlingRights, int enPassantSquare, int halfMoveClock,
+             long zobristKey){
+
+        this.move = move;
+        this.pieceMoving = pieceMoving;
+        this.pieceMovingHasMoved = pieceMoving.getHasMoved();
+        this.promotedPiece = promotedPiece;
+
+        capturedPieces.clear();
+        triggeredPieces.clear();
+        triggeredPiecesHaveMoved.clear();
+
+        this.sideToMove = sideToMove;
+        this.castlingRights = castlingRights;
+        this.enPassantSquare = enPassantSquare;
+        this.halfMoveClock = halfMoveClock;
+        this.zobristKey = zobristKey;
+    }
+
+    /**
+     * Method that fills this record with the content of a record of another
+     * GameBoard, used when copying a GameBoard
+     *
+     * @param moveRecord the reference MoveRecord being copied
+     * @param pieceCopies pieces of the original GameBoard mapped to their copies,
+     *                    pieces not yet copied are added to it
+     */
+    void copy(MoveRecord moveRecord, Map<ChessPiece, ChessPiece> pieceCopies){
+
+        set(
+                moveRecord.move,
+                pieceCopies.computeIfAbsent(moveRecord.pieceMoving, ChessPiece::getCopy),
+                moveRecord.promotedPiece == null ? null :
+                        pieceCopies.computeIfAbsent(moveRecord.promotedPiece, ChessPiece::getCopy),
+                moveRecord.sideToMove,
+                moveRecord.castlingRights,
+                moveRecord.enPassantSquare,
+                moveRecord.halfMoveClock,
+                moveRecord.zobristKey
+        );
+        this.pieceMovingHasMoved = moveRecord.pieceMovingHasMoved;
+
+        for(ChessPiece capturedPiece : moveRecord.capturedPieces){
+            capturedPieces.add(pieceCopies.computeIfAbsent(capturedPiece, ChessPiece::getCopy));
+        }
+        for(ChessPiece triggeredPiece : moveRecord.triggeredPieces){
+            triggeredPieces.add(pieceCopies.computeIfAbsent(triggeredPiece, ChessPiece::getCopy));
+        }
+        triggeredPiecesHaveMoved.addAll(moveRecord.triggeredPiecesHaveMoved);
+    }
+
+    // Methods for getting the move and the piece that made it
+    Move getMove(){
+        return move;
+    }
+    ChessPiece getPieceMoving(){
+        return pieceMoving;
+    }
+    boolean getPieceMovingHasMoved(){
+        return pieceMovingHasMoved;
+    }
+
+    // Method for getting the piece pieceMoving promoted into
+    ChessPiece getPromotedPiece(){
+        return promotedPiece;
+    }
+
+    // Methods for getting and adding pieces removed from the board by this move
+    List<ChessPiece> getCapturedPieces(){
+        return capturedPieces;
+    }
+    void addCapturedPiece(ChessPiece capturedPiece){
+        capturedPieces.add(capturedPiece);
+    }
+
+    // Methods for getting and adding pieces moved by triggered moves
+    List<ChessPiece> getTriggeredPieces(){
+        return triggeredPieces;
+    }
+    List<Boolean> getTriggeredPiecesHaveMoved(){
+        return triggeredPiecesHaveMoved;
+    }
+    void addTriggeredPiece(ChessPiece triggeredPiece){
+        triggeredPieces.add(triggeredPiece);
+        triggeredPiecesHaveMoved.add(triggeredPiece.getHasMoved());
+    }
+
+    // Methods for getting the irreversible board state from before the move
+    PieceColor getSideToMove(){
+        return sideToMove;
+    }
+    int getCastlingRights(){
+        return castlingRights;
+    }
+    int getEnPassantSquare(){
+        return enPassantSquare;
+    }
+    int getHalfMoveClock(){
+        return halfMoveClock;
+    }
+    long getZobristKey(){
+        return zobristKey;
+    }
+}
@@ -1,11 +1,37 @@
 package com.chessgamepro;
 
+import com.chessgamepro.BitBoard.MagicTables;
+import com.chessgamepro.GUI.ImageUtility;
 import com.chessgamepro.GUI.Screen;
+import com.chessgamepro.Perft.Perft;
+import com.chessgamepro.Uci.UciEngine;
 
 import javax.swing.SwingUtilities;
+import java.util.Arrays;
 
 public class Main {
     public static void main(String...args){
+
+        // Build the attack tables before the first move is generated, in every mode
+        MagicTables.load();
+
+        // Run without a window, driven through standard input and output
+        if(args.length > 0 && args[0].equals("uci")){
+            new UciEngine(System.in, System.out).run();
+            return;
+        }
+
+        // Count legal move trees, 'perft <depth> [fen] [threads N] [hash MB] [nobulk]'
+        if(args.length > 0 && args[0].equals("perft")){
+            Perft.runFromArguments(Arrays.copyOfRange(args, 1, args.length), System.out);
+            return;
+        }
+
+        System.out.println(MagicTables.getReport());
+
+        // Read all images once, before the first piece is drawn
+        ImageUtility.loadImages();
+
         SwingUtilities.invokeLater(new Runnable() {
             @Override
             public void run() {
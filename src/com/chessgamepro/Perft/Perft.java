@@ -0,0 +1,181 @@
+package com.chessgamepro.Perft;
+
+import com.chessgamepro.BitBoard.BitBoard;
+import com.chessgamepro.BitBoard.MoveGenerator;
+import com.chessgamepro.FenUtility.FenUtility;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Class that counts the leaf nodes of the legal move tree of a position to
+ * a fixed depth. Used to check move generation against known counts and
+ * as the throughput benchmark of move generation. Root moves are split
+ * across a ForkJoinPool, each task counting on its own copy of board.
+ */
+public class Perft {
+
+    // Constants describing the default settings of perft
+    public static final int DEFAULT_THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+    public static final int NO_HASH = 0;
+
+    private final int threadCount;
+    private final boolean isBulkCounting;
+    private final PerftHashTable hashTable;
+
+    /**
+     * Constructor for Perft
+     *
+     * @param threadCount the number of threads counting root moves
+     * @param isBulkCounting true if the last ply is counted from the number of
+     *                       legal moves instead of making every move
+     * @param hashSizeInMegabytes memory of the shared table of counted positions, NO_HASH for none
+     */
+    public Perft(int threadCount, boolean isBulkCounting, int hashSizeInMegabytes){
+        this.threadCount = Math.max(1, threadCount);
+        this.isBulkCounting = isBulkCounting;
+        this.hashTable = hashSizeInMegabytes > NO_HASH ? new PerftHashTable(hashSizeInMegabytes) : null;
+    }
+
+    /**
+     * Method that counts the leaf nodes of a position, every root move
+     * being counted as its own task
+     *
+     * @param bitBoard the position counted, left unchanged
+     * @param depth the depth counted to, at least 1
+     * @return the node counts of root moves and their total
+     */
+    public PerftResult run(BitBoard bitBoard, int depth){
+
+        if(depth < 1){
+            throw new IllegalArgumentException("Perft depth must be at least 1, was " + depth);
+        }
+
+        long startTime = System.currentTimeMillis();
+
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int moveCount = MoveGenerator.generateLegalMoves(bitBoard, bitBoard.getSideToMove(), moves);
+
+        int[] rootMoves = new int[moveCount];
+        System.arraycopy(moves, 0, rootMoves, 0, moveCount);
+
+        List<Callable<Long>> tasks = new ArrayList<>(moveCount);
+
+        for(int rootMove : rootMoves){
+            BitBoard taskBitBoard = new BitBoard(bitBoard);
+
+            tasks.add(() -> {
+                MoveGenerator.makeMove(taskBitBoard, rootMove);
+                return countNodes(taskBitBoard, depth - 1, new int[depth][MoveGenerator.MAX_MOVES]);
+            });
+        }
+
+        long[] rootNodeCounts = new long[moveCount];
+        long nodeCount = 0;
+
+        ForkJoinPool pool = new ForkJoinPool(threadCount);
+
+        try{
+            List<Future<Long>> results = pool.invokeAll(tasks);
+
+            for(int i = 0; i < moveCount; ++i){
+                rootNodeCounts[i] = results.get(i).get();
+                nodeCount += rootNodeCounts[i];
+            }
+
+        }catch(InterruptedException | ExecutionException e){
+            throw new RuntimeException(e);
+        }finally{
+            pool.shutdown();
+        }
+
+        return new PerftResult(rootMoves, rootNodeCounts, nodeCount, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Helper method for 'run' that counts the leaf nodes below a position
+     *
+     * @param bitBoard the position counted, restored before returning
+     * @param depth the remaining depth
+     * @param moveBuffers one move buffer for every remaining ply
+     * @return the number of leaf nodes
+     */
+    private long countNodes(BitBoard bitBoard, int depth, int[][] moveBuffers){
+
+        if(depth == 0){
+            return 1;
+        }
+
+        if(hashTable != null && depth > 1){
+            long storedNodeCount = hashTable.probe(bitBoard.getZobristKey(), depth);
+
+            if(storedNodeCount >= 0){
+                return storedNodeCount;
+            }
+        }
+
+        int[] moves = moveBuffers[depth];
+        int moveCount = MoveGenerator.generateLegalMoves(bitBoard, bitBoard.getSideToMove(), moves);
+
+        if(depth == 1 && isBulkCounting){
+            return moveCount;
+        }
+
+        long nodeCount = 0;
+
+        for(int i = 0; i < moveCount; ++i){
+            MoveGenerator.makeMove(bitBoard, moves[i]);
+            nodeCount += countNodes(bitBoard, depth - 1, moveBuffers);
+            bitBoard.undoMove();
+        }
+
+        if(hashTable != null && depth > 1){
+            hashTable.store(bitBoard.getZobristKey(), depth, nodeCount);
+        }
+
+        return nodeCount;
+    }
+
+    /**
+     * Method that runs perft from command line arguments and writes the
+     * divide output, the arguments being
+     * 'depth [fen] [threads N] [hash MB] [nobulk]'
+     *
+     * @param args the arguments following 'perft'
+     * @param output the stream results are written to
+     */
+    public static void runFromArguments(String[] args, PrintStream output){
+
+        if(args.length == 0){
+            output.println("usage: perft <depth> [fen] [threads <count>] [hash <megabytes>] [nobulk]");
+            return;
+        }
+
+        int depth = Integer.parseInt(args[0]);
+        String fen = FenUtility.startFen;
+        int threadCount = DEFAULT_THREAD_COUNT;
+        int hashSizeInMegabytes = NO_HASH;
+        boolean isBulkCounting = true;
+
+        for(int i = 1; i < args.length; ++i){
+            switch (args[i]){
+                case "threads" -> threadCount = Integer.parseInt(args[++i]);
+                case "hash" -> hashSizeInMegabytes = Integer.parseInt(args[++i]);
+                case "nobulk" -> isBulkCounting = false;
+                default -> fen = args[i];
+            }
+        }
+
+        BitBoard bitBoard = new BitBoard();
+        FenUtility.parseFen(fen, bitBoard);
+
+        PerftResult result = new Perft(threadCount, isBulkCounting, hashSizeInMegabytes).run(bitBoard, depth);
+
+        output.println(result.getDivide());
+    }
+}
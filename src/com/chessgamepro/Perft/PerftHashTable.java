@@ -0,0 +1,69 @@
+package com.chessgamepro.Perft;
+
+/**
+ * A table of node counts of positions already counted, keyed by the Zobrist
+ * key of position and the remaining depth. Threads share it without locks,
+ * every entry stores its key xor its count so a torn write is never read
+ * back as a hit.
+ */
+class PerftHashTable {
+
+    // Constant mixing the remaining depth into a key, odd so no two depths collide
+    private static final long DEPTH_KEY = 0x9E3779B97F4A7C15L;
+
+    // Size of one entry, a key and a count
+    private static final int ENTRY_SIZE_IN_BYTES = 16;
+
+    private final long[] keys;
+    private final long[] nodeCounts;
+    private final int indexMask;
+
+    /**
+     * Constructor for PerftHashTable
+     *
+     * @param sizeInMegabytes memory used by the table, rounded down to a power of two entries
+     */
+    PerftHashTable(int sizeInMegabytes){
+
+        long requestedEntries = Math.max(1L, (long) sizeInMegabytes * 1024 * 1024 / ENTRY_SIZE_IN_BYTES);
+        int entryCount = Integer.highestOneBit((int) Math.min(requestedEntries, 1 << 30));
+
+        keys = new long[entryCount];
+        nodeCounts = new long[entryCount];
+        indexMask = entryCount - 1;
+    }
+
+    /**
+     * Method that looks up the node count of a position
+     *
+     * @param zobristKey the key of position
+     * @param depth the remaining depth
+     * @return the stored count, -1 if the position is not stored
+     */
+    long probe(long zobristKey, int depth){
+
+        long key = zobristKey ^ depth * DEPTH_KEY;
+        int index = (int) key & indexMask;
+
+        long nodeCount = nodeCounts[index];
+
+        return (keys[index] ^ nodeCount) == key ? nodeCount : -1;
+    }
+
+    /**
+     * Method that stores the node count of a position, replacing
+     * whatever entry held its slot
+     *
+     * @param zobristKey the key of position
+     * @param depth the remaining depth
+     * @param nodeCount the counted nodes
+     */
+    void store(long zobristKey, int depth, long nodeCount){
+
+        long key = zobristKey ^ depth * DEPTH_KEY;
+        int index = (int) key & indexMask;
+
+        nodeCounts[index] = nodeCount;
+        keys[index] = key ^ nodeCount;
+    }
+}
@@ -0,0 +1,45 @@
+package com.chessgamepro.Perft;
+
+import com.chessgamepro.BitBoard.MoveGenerator;
+
+/**
+ * A record holding the result of a perft run
+ *
+ * @param rootMoves the legal moves of position, packed as in MoveGenerator
+ * @param rootNodeCounts the nodes counted below each root move
+ * @param nodeCount the nodes counted at the given depth
+ * @param elapsedMillis the time spent counting
+ */
+public record PerftResult(
+        int[] rootMoves,
+        long[] rootNodeCounts,
+        long nodeCount,
+        long elapsedMillis) {
+
+    // Method for getting the nodes counted per second
+    public long getNodesPerSecond(){
+        return nodeCount * 1000 / Math.max(1, elapsedMillis);
+    }
+
+    /**
+     * Method that writes the node count of every root move followed by
+     * the totals, in the format used by most engines
+     *
+     * @return the divide output
+     */
+    public String getDivide(){
+
+        StringBuilder divide = new StringBuilder();
+
+        for(int i = 0; i < rootMoves.length; ++i){
+            divide.append(MoveGenerator.toString(rootMoves[i])).append(": ").append(rootNodeCounts[i]).append('\n');
+        }
+
+        divide.append('\n')
+                .append("Nodes searched: ").append(nodeCount).append('\n')
+                .append("Time: ").append(elapsedMillis).append("ms\n")
+                .append("Nps: ").append(getNodesPerSecond());
+
+        return divide.toString();
+    }
+}
@@ -0,0 +1,288 @@
+package com.chessgamepro.Tests;
+
+import com.chessgamepro.BitBoard.AttackTables;
+import com.chessgamepro.BitBoard.BitBoard;
+import com.chessgamepro.BitBoard.BitBoardAdapter;
+import com.chessgamepro.BitBoard.MagicTables;
+import com.chessgamepro.BitBoard.Zobrist;
+import com.chessgamepro.ChessPieces.PieceColor;
+import com.chessgamepro.ChessPieces.PieceType;
+import com.chessgamepro.FenUtility.FenUtility;
+import com.chessgamepro.GameBoard.Coordinate;
+import com.chessgamepro.GameBoard.GameBoard;
+import com.chessgamepro.GameBoard.Move;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitBoardTest {
+
+    @DisplayName("BitBoard of a GameBoard should stay in sync through moves and undos")
+    @Test
+    void TestGameBoardBitBoardInSync(){
+
+        GameBoard gameBoard = new GameBoard(FenUtility.startFen);
+
+        Move pawnMove = new Move(
+                new Coordinate(1,4),
+                new Coordinate(3,4)
+        );
+        gameBoard.makeMove(pawnMove);
+
+        Move queenMove = new Move(
+                new Coordinate(0,3),
+                new Coordinate(4,7)
+        );
+        gameBoard.makeMove(queenMove);
+
+        Move queenCapture = new Move(
+                new Coordinate(4,7),
+                new Coordinate(6,5),
+                gameBoard.getPieceAtSquare(new Coordinate(6,5))
+        );
+        gameBoard.makeMove(queenCapture);
+
+        BitBoard rebuiltBitBoard = BitBoardAdapter.getBitBoard(gameBoard, PieceColor.WHITE);
+
+        assertAll("Moves made",
+                () -> assertTrue(gameBoard.getBitBoard().isTypeAtSquare(53, PieceType.QUEEN),
+                        "White Queen captured on f7, f7 should hold a Queen"),
+                () -> assertTrue(gameBoard.getBitBoard().isSquareEmpty(39),
+                        "White Queen left h5, h5 should be empty"),
+                () -> assertEquals(rebuiltBitBoard.getOccupancy(), gameBoard.getBitBoard().getOccupancy(),
+                        "Occupancy should be the same as one built from all pieces")
+        );
+
+        gameBoard.undoMove();
+        gameBoard.undoMove();
+        gameBoard.undoMove();
+
+        BitBoard startBitBoard = new GameBoard(FenUtility.startFen).getBitBoard();
+
+        assertAll("Moves undone",
+                () -> assertEquals(startBitBoard.getOccupancy(), gameBoard.getBitBoard().getOccupancy(),
+                        "All moves undone, occupancy should be the starting one"),
+                () -> assertEquals(startBitBoard.getPieceBitBoard(PieceType.PAWN, PieceColor.BLACK),
+                        gameBoard.getBitBoard().getPieceBitBoard(PieceType.PAWN, PieceColor.BLACK),
+                        "All moves undone, Black Pawns should be back")
+        );
+    }
+
+    @DisplayName("Castling and en-passant on a BitBoard should be made and undone")
+    @Test
+    void TestBitBoardSpecialMoves(){
+
+        GameBoard gameBoard = new GameBoard("r3k2r/8/8/8/4p3/8/3P4/R3K2R");
+        BitBoard bitBoard = BitBoardAdapter.getBitBoard(gameBoard, PieceColor.WHITE);
+        BitBoard bitBoardCopy = new BitBoard(bitBoard);
+
+        bitBoard.makeMove(11, 27, null);
+        bitBoard.makeMove(28, 19, null);
+
+        assertAll("Black Pawn en-passant",
+                () -> assertTrue(bitBoard.isColorAtSquare(19, PieceColor.BLACK),
+                        "Black Pawn captured en-passant, d3 should hold a Black piece"),
+                () -> assertTrue(bitBoard.isSquareEmpty(27),
+                        "Black Pawn captured en-passant, captured White Pawn on d4 should be gone")
+        );
+
+        bitBoard.makeMove(4, 6, null);
+
+        assertAll("White King-side castle",
+                () -> assertTrue(bitBoard.isTypeAtSquare(6, PieceType.KING),
+                        "White King castled king-side, g1 should hold a King"),
+                () -> assertTrue(bitBoard.isTypeAtSquare(5, PieceType.ROOK),
+                        "White King castled king-side, f1 should hold a Rook"),
+                () -> assertEquals(BitBoard.BLACK_KING_SIDE_CASTLE | BitBoard.BLACK_QUEEN_SIDE_CASTLE,
+                        bitBoard.getCastlingRights(),
+                        "White King castled king-side, White should have no castling rights left")
+        );
+
+        bitBoard.undoMove();
+        bitBoard.undoMove();
+        bitBoard.undoMove();
+
+        assertEquals(bitBoardCopy, bitBoard, "All moves undone, position should be the starting one");
+    }
+
+    @DisplayName("Promotion on a BitBoard should be made and undone")
+    @Test
+    void TestBitBoardPromotion(){
+
+        GameBoard gameBoard = new GameBoard("1r2k3/P7/8/8/8/8/8/4K3");
+        BitBoard bitBoard = BitBoardAdapter.getBitBoard(gameBoard, PieceColor.WHITE);
+        BitBoard bitBoardCopy = new BitBoard(bitBoard);
+
+        bitBoard.makeMove(48, 57, PieceType.KNIGHT);
+
+        assertAll("White Pawn capture and promotion",
+                () -> assertEquals(BitBoard.getPiece(PieceType.KNIGHT, PieceColor.WHITE),
+                        bitBoard.getPieceAtSquare(57),
+                        "White Pawn promoted on b8, b8 should hold a White Knight"),
+                () -> assertEquals(0L, bitBoard.getPieceBitBoard(PieceType.ROOK, PieceColor.BLACK),
+                        "White Pawn captured Black Rook, Black should have no Rooks"),
+                () -> assertEquals(0L, bitBoard.getPieceBitBoard(PieceType.PAWN, PieceColor.WHITE),
+                        "White Pawn promoted, White should have no Pawns")
+        );
+
+        bitBoard.undoMove();
+
+        assertEquals(bitBoardCopy, bitBoard, "Promotion undone, position should be the starting one");
+    }
+
+    @DisplayName("Zobrist key should be updated incrementally and be equal for transpositions")
+    @Test
+    void TestZobristKey(){
+
+        GameBoard gameBoard = new GameBoard(FenUtility.startFen);
+        GameBoard transposedGameBoard = new GameBoard(FenUtility.startFen);
+        long startKey = gameBoard.getZobristKey();
+
+        // Nf3 Nf6 Nc3 and Nc3 Nf6 Nf3 reach the same position
+        gameBoard.makeMove(new Move(new Coordinate(0,6), new Coordinate(2,5)));
+        gameBoard.makeMove(new Move(new Coordinate(7,6), new Coordinate(5,5)));
+        gameBoard.makeMove(new Move(new Coordinate(0,1), new Coordinate(2,2)));
+
+        transposedGameBoard.makeMove(new Move(new Coordinate(0,1), new Coordinate(2,2)));
+        transposedGameBoard.makeMove(new Move(new Coordinate(7,6), new Coordinate(5,5)));
+        transposedGameBoard.makeMove(new Move(new Coordinate(0,6), new Coordinate(2,5)));
+
+        assertAll("Transposed positions",
+                () -> assertEquals(Zobrist.getKey(gameBoard.getBitBoard()), gameBoard.getZobristKey(),
+                        "Incremental key should be equal to the key calculated from scratch"),
+                () -> assertEquals(gameBoard.getZobristKey(), transposedGameBoard.getZobristKey(),
+                        "Transposed positions should have the same key"),
+                () -> assertEquals(gameBoard, transposedGameBoard,
+                        "Transposed positions should be equal"),
+                () -> assertEquals(PieceColor.BLACK, gameBoard.getSideToMove(),
+                        "Three moves made, Black should be to move")
+        );
+
+        // Same placement but a double Pawn push leaves an en-passant square
+        GameBoard doublePushGameBoard = new GameBoard(FenUtility.startFen);
+        GameBoard singlePushesGameBoard = new GameBoard(FenUtility.startFen);
+
+        doublePushGameBoard.makeMove(new Move(new Coordinate(1,4), new Coordinate(3,4)));
+        singlePushesGameBoard.makeMove(new Move(new Coordinate(1,4), new Coordinate(2,4)));
+        singlePushesGameBoard.makeMove(new Move(new Coordinate(6,0), new Coordinate(5,0)));
+        singlePushesGameBoard.makeMove(new Move(new Coordinate(2,4), new Coordinate(3,4)));
+        singlePushesGameBoard.makeMove(new Move(new Coordinate(5,0), new Coordinate(6,0)));
+
+        assertNotEquals(doublePushGameBoard.getZobristKey(), singlePushesGameBoard.getZobristKey(),
+                "Only one position has an en-passant square, keys should differ");
+
+        gameBoard.undoMove();
+        gameBoard.undoMove();
+        gameBoard.undoMove();
+
+        assertAll("Moves undone",
+                () -> assertEquals(startKey, gameBoard.getZobristKey(),
+                        "All moves undone, key should be the starting one"),
+                () -> assertEquals(Zobrist.getKey(gameBoard.getBitBoard()), gameBoard.getZobristKey(),
+                        "All moves undone, incremental key should be equal to the key calculated from scratch")
+        );
+    }
+
+    @DisplayName("Null move should only pass the turn and be undone like any other move")
+    @Test
+    void TestNullMove(){
+
+        BitBoard bitBoard = new BitBoard();
+        FenUtility.parseFen("rnbqkbnr/ppp1pppp/8/8/3pP3/5N2/PPPP1PPP/RNBQKB1R b KQkq e3 0 3", bitBoard);
+        BitBoard bitBoardCopy = new BitBoard(bitBoard);
+
+        bitBoard.makeNullMove();
+
+        BitBoard passedBitBoard = new BitBoard();
+        FenUtility.parseFen("rnbqkbnr/ppp1pppp/8/8/3pP3/5N2/PPPP1PPP/RNBQKB1R w KQkq - 1 4", passedBitBoard);
+
+        assertAll("Null move",
+                () -> assertEquals(PieceColor.WHITE, bitBoard.getSideToMove(), "Black passed, White should be to move"),
+                () -> assertEquals(BitBoard.NO_SQUARE, bitBoard.getEnPassantSquare(),
+                        "Passing should clear the en-passant square"),
+                () -> assertEquals(bitBoardCopy.getOccupancy(), bitBoard.getOccupancy(), "Passing should not move pieces"),
+                () -> assertEquals(Zobrist.getKey(bitBoard), bitBoard.getZobristKey(),
+                        "Incremental key should be equal to the key calculated from scratch"),
+                () -> assertEquals(passedBitBoard, bitBoard, "Position should equal the same position with White to move")
+        );
+
+        bitBoard.makeMove(28, 36, null);
+        bitBoard.undoMove();
+        bitBoard.undoMove();
+
+        assertAll("Null move undone",
+                () -> assertEquals(bitBoardCopy, bitBoard, "Null move undone, position should be the starting one"),
+                () -> assertEquals(28 - 8, bitBoard.getEnPassantSquare(), "En-passant square should be restored"),
+                () -> assertEquals(0, bitBoard.getHistorySize(), "Null move should be removed from history")
+        );
+    }
+
+    @DisplayName("Attack queries should see every piece type and stop at blocking pieces")
+    @Test
+    void TestIsSquareAttacked(){
+
+        // White Rook a1, Bishop c1, Knight g1, Pawn d4, King e1; Black Queen h8, Pawn e5, King e8
+        GameBoard gameBoard = new GameBoard("4k2q/8/8/4p3/3P4/8/8/R1B1K1N1");
+        BitBoard bitBoard = gameBoard.getBitBoard();
+
+        assertAll("Attacked squares",
+                () -> assertTrue(bitBoard.isSquareAttacked(56, PieceColor.WHITE),
+                        "White Rook on a1 should attack a8 along an open file"),
+                () -> assertTrue(bitBoard.isSquareAttacked(36, PieceColor.WHITE),
+                        "White Pawn on d4 should attack e5"),
+                () -> assertTrue(bitBoard.isSquareAttacked(27, PieceColor.BLACK),
+                        "Black Pawn on e5 should attack d4"),
+                () -> assertFalse(bitBoard.isSquareAttacked(43, PieceColor.BLACK),
+                        "Black Pawn on e5 should not attack d6 behind it"),
+                () -> assertTrue(bitBoard.isSquareAttacked(21, PieceColor.WHITE),
+                        "White Knight on g1 should attack f3"),
+                () -> assertTrue(bitBoard.isSquareAttacked(13, PieceColor.WHITE),
+                        "White King on e1 should attack f2"),
+                () -> assertTrue(bitBoard.isSquareAttacked(7, PieceColor.BLACK),
+                        "Black Queen on h8 should attack h1 along an open file"),
+                () -> assertFalse(bitBoard.isSquareAttacked(9, PieceColor.BLACK),
+                        "Black Queen on h8 should not attack b2, Black Pawn on e5 blocks the diagonal"),
+                () -> assertFalse(bitBoard.isSquareAttacked(7, PieceColor.WHITE),
+                        "White Rook on a1 should not attack h1, White Bishop on c1 blocks the rank"),
+                () -> assertFalse(gameBoard.isKingInCheck(PieceColor.WHITE), "White King should not be in check")
+        );
+    }
+
+    @DisplayName("Magic table attacks should be equal to attacks walked along rays")
+    @Test
+    void TestMagicTables(){
+
+        SplittableRandom random = new SplittableRandom(12345);
+
+        for(int square = 0; square < BitBoard.SQUARE_COUNT; ++square){
+            for(int i = 0; i < 200; ++i){
+
+                // Sparse random occupancies, like real positions
+                long occupancy = random.nextLong() & random.nextLong();
+
+                long rookAttacks = 0L;
+                long bishopAttacks = 0L;
+
+                for(int direction = 0; direction < AttackTables.ORTHOGONAL_DIRECTION_COUNT; ++direction){
+                    rookAttacks |= AttackTables.getRayAttacks(square, direction, occupancy);
+                }
+                for(int direction = AttackTables.ORTHOGONAL_DIRECTION_COUNT;
+                    direction < AttackTables.DIRECTION_COUNT; ++direction){
+                    bishopAttacks |= AttackTables.getRayAttacks(square, direction, occupancy);
+                }
+
+                assertEquals(rookAttacks, MagicTables.getRookAttacks(square, occupancy),
+                        "Rook attacks of square " + square + " should be equal to ray attacks");
+                assertEquals(bishopAttacks, MagicTables.getBishopAttacks(square, occupancy),
+                        "Bishop attacks of square " + square + " should be equal to ray attacks");
+            }
+        }
+
+        // 102400 Rook and 5248 Bishop attack sets with the usual relevant masks
+        assertTrue(MagicTables.getMemoryBytes() > (102400L + 5248L) * Long.BYTES,
+                "Memory report should count all attack sets");
+    }
+}
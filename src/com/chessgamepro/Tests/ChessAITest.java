@@ -0,0 +1,229 @@
+package com.chessgamepro.Tests;
+
+import com.chessgamepro.BitBoard.BitBoard;
+import com.chessgamepro.BitBoard.MoveGenerator;
+import com.chessgamepro.ChessAI.ChessAI;
+import com.chessgamepro.ChessAI.ReplacementPolicy;
+import com.chessgamepro.ChessAI.SearchStatistics;
+import com.chessgamepro.ChessAI.TimeManager;
+import com.chessgamepro.ChessAI.TranspositionTable;
+import com.chessgamepro.ChessPieces.PieceColor;
+import com.chessgamepro.FenUtility.FenUtility;
+import com.chessgamepro.GameBoard.GameBoard;
+import com.chessgamepro.GameBoard.Move;
+import com.chessgamepro.GameBoard.MoveHelper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChessAITest {
+
+    @DisplayName("Search should find a mate in one and leave the board unchanged")
+    @Test
+    void TestSearchFindsMate(){
+
+        GameBoard gameBoard = new GameBoard("6k1/5ppp/8/8/8/8/8/R5K1");
+        GameBoard gameBoardCopy = gameBoard.getCopy();
+
+        List<Move> moveList = MoveHelper.getColorMoves(PieceColor.WHITE, gameBoard, true, true);
+        ChessAI chessAI = new ChessAI(moveList, true, new TimeManager(5000),
+                new TranspositionTable(1, ReplacementPolicy.AGED_DEPTH_PREFERRED));
+
+        Move bestMove = chessAI.search(gameBoard);
+
+        assertAll("Mate in one",
+                () -> assertEquals("a1a8", bestMove.toString(), "Rook to a8 should be mate"),
+                () -> assertEquals(gameBoardCopy, gameBoard, "Board should be unchanged after search")
+        );
+    }
+
+    @DisplayName("Search should return a move even if stopped before completing an iteration")
+    @Test
+    void TestSearchStopped(){
+
+        GameBoard gameBoard = new GameBoard(FenUtility.position2);
+
+        List<Move> moveList = MoveHelper.getColorMoves(PieceColor.WHITE, gameBoard, true, true);
+        TimeManager timeManager = new TimeManager(1);
+        ChessAI chessAI = new ChessAI(moveList, true, timeManager,
+                new TranspositionTable(1, ReplacementPolicy.AGED_DEPTH_PREFERRED));
+
+        long startTime = System.currentTimeMillis();
+        Move bestMove = chessAI.search(gameBoard);
+        long searchTime = System.currentTimeMillis() - startTime;
+
+        assertAll("Stopped search",
+                () -> assertTrue(moveList.contains(bestMove), "Returned move should be a legal move"),
+                () -> assertTrue(searchTime < 1000, "Search of 1 ms should stop well within a second")
+        );
+    }
+
+    @DisplayName("Search should complete its first iteration and find a mate in one even without time")
+    @Test
+    void TestSearchCompletesFirstIteration(){
+
+        BitBoard bitBoard = new BitBoard();
+        FenUtility.parseFen("r1bqkbnr/pppp1ppp/2n5/4p3/2B1P3/5Q2/PPPP1PPP/RNB1K1NR w KQkq - 2 3", bitBoard);
+
+        // Out of time before the search starts, no iteration may start once the first is done
+        ChessAI chessAI = new ChessAI(new TimeManager(1),
+                new TranspositionTable(1, ReplacementPolicy.AGED_DEPTH_PREFERRED));
+
+        int bestMove = chessAI.search(bitBoard);
+
+        assertAll("First iteration",
+                () -> assertEquals("f3f7", MoveGenerator.toString(bestMove), "Queen takes f7 should be mate"),
+                () -> assertEquals(1, chessAI.getStatistics().getCompletedDepth(),
+                        "Search should complete exactly one iteration"),
+                () -> assertTrue(chessAI.getNodeCount() > 0, "Search should visit nodes")
+        );
+    }
+
+    @DisplayName("Search should collect statistics of every completed iteration")
+    @Test
+    void TestSearchStatistics(){
+
+        BitBoard bitBoard = new BitBoard();
+        FenUtility.parseFen(FenUtility.position2, bitBoard);
+
+        ChessAI chessAI = new ChessAI(new TimeManager(60_000),
+                new TranspositionTable(1, ReplacementPolicy.AGED_DEPTH_PREFERRED));
+        chessAI.setMaxDepth(3);
+
+        List<Integer> reportedDepths = new ArrayList<>();
+        chessAI.setSearchListener(statistics -> reportedDepths.add(statistics.getCompletedDepth()));
+
+        int bestMove = chessAI.search(bitBoard);
+        SearchStatistics statistics = chessAI.getStatistics();
+
+        assertAll("Search statistics",
+                () -> assertEquals(List.of(1, 2, 3), reportedDepths, "Listener should be told about every iteration"),
+                () -> assertEquals(3, statistics.getCompletedDepth(), "Search should complete the maximum depth"),
+                () -> assertEquals(chessAI.getNodeCount(), statistics.getNodeCount(), "Node counts should agree"),
+                () -> assertTrue(statistics.getNodeCountToDepth(2) < statistics.getNodeCountToDepth(3),
+                        "Deeper iterations should visit more nodes"),
+                () -> assertTrue(statistics.getTranspositionHitCount() <= statistics.getTranspositionProbeCount(),
+                        "Hits should not outnumber probes"),
+                () -> assertTrue(statistics.getFirstMoveBetaCutoffCount() <= statistics.getBetaCutoffCount(),
+                        "First move cutoffs should be a part of all cutoffs"),
+                () -> assertTrue(statistics.getEffectiveBranchingFactor() > 1, "Branching factor should be known"),
+                () -> assertTrue(statistics.getPrincipalVariation().startsWith(MoveGenerator.toString(bestMove)),
+                        "Principal variation should start with the best move")
+        );
+    }
+
+    @DisplayName("Search should look past the horizon and not win a Pawn for the Queen")
+    @Test
+    void TestQuiescenceSearch(){
+
+        BitBoard bitBoard = new BitBoard();
+        FenUtility.parseFen("4k3/8/4p3/3p4/8/8/8/3QK3 w - - 0 1", bitBoard);
+
+        ChessAI chessAI = new ChessAI(new TimeManager(60_000),
+                new TranspositionTable(1, ReplacementPolicy.AGED_DEPTH_PREFERRED));
+        chessAI.setMaxDepth(1);
+        chessAI.setSearchListener(statistics -> {});
+
+        int bestMove = chessAI.search(bitBoard);
+
+        assertAll("Quiescence search",
+                () -> assertNotEquals("d1d5", MoveGenerator.toString(bestMove), "Queen takes Pawn loses the Queen"),
+                () -> assertTrue(chessAI.getStatistics().getQuiescenceNodeCount() > 0,
+                        "Leaves of search should be resolved by quiescence search")
+        );
+    }
+
+    @DisplayName("Null and aspiration windows should not change the score of a full window search")
+    @Test
+    void TestPrincipalVariationSearch(){
+
+        String[] fens = {FenUtility.startFen, FenUtility.position2, "4k3/8/4p3/3p4/8/8/8/3QK3 w - - 0 1",
+                "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1"};
+
+        for(String fen : fens){
+            BitBoard bitBoard = new BitBoard();
+            FenUtility.parseFen(fen, bitBoard);
+            boolean isWhite = bitBoard.getSideToMove() == PieceColor.WHITE;
+
+            ChessAI chessAI = new ChessAI(new TimeManager(60_000),
+                    new TranspositionTable(1, ReplacementPolicy.AGED_DEPTH_PREFERRED));
+            chessAI.setMaxDepth(4);
+            chessAI.setSearchListener(statistics -> {});
+            chessAI.search(bitBoard);
+
+            ChessAI fullWindowAI = new ChessAI(new TimeManager(60_000),
+                    new TranspositionTable(1, ReplacementPolicy.AGED_DEPTH_PREFERRED));
+            int fullWindowScore = fullWindowAI.miniMax(bitBoard, ChessAI.MIN, ChessAI.MAX, 4, 1, isWhite);
+
+            assertEquals(fullWindowScore, chessAI.getStatistics().getScore(), "Scores should agree for " + fen);
+        }
+    }
+
+    @DisplayName("Null move pruning should cut off nodes but not miss a move in zugzwang")
+    @Test
+    void TestNullMovePruning(){
+
+        BitBoard bitBoard = new BitBoard();
+        FenUtility.parseFen(FenUtility.position2, bitBoard);
+
+        ChessAI chessAI = new ChessAI(new TimeManager(60_000),
+                new TranspositionTable(1, ReplacementPolicy.AGED_DEPTH_PREFERRED));
+        chessAI.setMaxDepth(5);
+        chessAI.setSearchListener(statistics -> {});
+        chessAI.search(bitBoard);
+
+        long nullMoveCutoffCount = chessAI.getStatistics().getNullMoveCutoffCount();
+
+        // Only Rf1 holds, every other move lets Black promote or mate
+        FenUtility.parseFen("8/8/p1p5/1p5p/1P5p/8/PPP2K1p/4R1rk w - - 0 1", bitBoard);
+        chessAI.setMaxDepth(8);
+
+        int bestMove = chessAI.search(bitBoard);
+
+        assertAll("Null move pruning",
+                () -> assertTrue(nullMoveCutoffCount > 0, "Search should make null move cutoffs"),
+                () -> assertEquals("e1f1", MoveGenerator.toString(bestMove), "Rook to f1 is the only move in zugzwang")
+        );
+    }
+
+    @DisplayName("Search on several threads should find the same mate and count the nodes of every thread")
+    @Test
+    void TestParallelSearch(){
+
+        BitBoard bitBoard = new BitBoard();
+        FenUtility.parseFen("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1", bitBoard);
+        BitBoard bitBoardCopy = new BitBoard(bitBoard);
+
+        ChessAI chessAI = new ChessAI(new TimeManager(60_000),
+                new TranspositionTable(1, ReplacementPolicy.AGED_DEPTH_PREFERRED));
+        chessAI.setThreadCount(4);
+        chessAI.setSearchListener(statistics -> {});
+
+        int bestMove = chessAI.search(bitBoard);
+        boolean isBoardUnchanged = bitBoardCopy.equals(bitBoard);
+
+        // A stopped search must stop its helpers too
+        FenUtility.parseFen(FenUtility.position2, bitBoard);
+        TimeManager timeManager = new TimeManager(200);
+        ChessAI timedChessAI = new ChessAI(timeManager,
+                new TranspositionTable(1, ReplacementPolicy.AGED_DEPTH_PREFERRED));
+        timedChessAI.setThreadCount(8);
+        timedChessAI.setSearchListener(statistics -> {});
+
+        long startTime = System.currentTimeMillis();
+        timedChessAI.search(bitBoard);
+        long searchTime = System.currentTimeMillis() - startTime;
+
+        assertAll("Parallel search",
+                () -> assertEquals("a1a8", MoveGenerator.toString(bestMove), "Rook to a8 should be mate"),
+                () -> assertTrue(isBoardUnchanged, "Searched board should be unchanged"),
+                () -> assertTrue(timedChessAI.getNodeCount() > timedChessAI.getStatistics().getNodeCount(),
+                        "Node count should include the nodes of helper threads"),
+                () -> assertTrue(searchTime < 2000, "Search of 200 ms on 8 threads should stop well within 2 seconds")
+        );
+    }
+}
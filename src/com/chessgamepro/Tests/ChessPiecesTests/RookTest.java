@@ -1,6 +1,8 @@
 package com.chessgamepro.Tests.ChessPiecesTests;
 
 import com.chessgamepro.ChessPieces.ChessPiece;
+import com.chessgamepro.ChessPieces.PieceType;
+import com.chessgamepro.FenUtility.FenUtility;
 import com.chessgamepro.GameBoard.Coordinate;
 import com.chessgamepro.GameBoard.GameBoard;
 import com.chessgamepro.GameBoard.Move;
@@ -60,4 +62,28 @@ class RookTest {
         );
     }
 
-}
\ No newline at end of file
+    @DisplayName("Rooks of the same color should share one unmodifiable movement pattern")
+    @Test
+    void TestRookMovementPatternShared(){
+
+        GameBoard gameBoard = new GameBoard(FenUtility.startFen);
+        ChessPiece queenSideRook = gameBoard.getPieceAtSquare(new Coordinate(0,0));
+        ChessPiece kingSideRook = gameBoard.getPieceAtSquare(new Coordinate(0,7));
+        ChessPiece blackRook = gameBoard.getPieceAtSquare(new Coordinate(7,0));
+        ChessPiece promotedPawn = gameBoard.getPieceAtSquare(new Coordinate(1,0)).getPromotedPiece(PieceType.ROOK);
+
+        assertAll("Shared movement patterns",
+                () -> assertSame(queenSideRook.getMovePattern(), kingSideRook.getMovePattern(),
+                        "Both White Rooks should reference the same pattern"),
+                () -> assertSame(queenSideRook.getMovePattern(), queenSideRook.getCopy().getMovePattern(),
+                        "A copy should reference the pattern of original"),
+                () -> assertSame(queenSideRook.getMovePattern(), promotedPawn.getMovePattern(),
+                        "A Pawn promoted to Rook should reference the same pattern"),
+                () -> assertNotSame(queenSideRook.getMovePattern(), blackRook.getMovePattern(),
+                        "Black Rooks should have a pattern of their own"),
+                () -> assertThrows(UnsupportedOperationException.class,
+                        () -> queenSideRook.getMovePattern().clear(), "Shared pattern should not be modifiable")
+        );
+    }
+
+}
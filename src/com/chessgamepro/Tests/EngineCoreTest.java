@@ -0,0 +1,62 @@
+package com.chessgamepro.Tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EngineCoreTest {
+
+    // Packages making up the engine core, they must load without AWT or Swing
+    private static final String[] CORE_PACKAGES = {
+            "BitBoard", "ChessAI", "ChessPieces", "FenUtility", "GameBoard", "Perft", "Uci"
+    };
+
+    // References that would pull in java.desktop or the GUI client
+    private static final String[] FORBIDDEN_REFERENCES = {
+            "java.awt", "javax.swing", "javax.imageio", "com.chessgamepro.GUI", "com.chessgamepro.Game."
+    };
+
+    private static final Path SOURCE_DIRECTORY = Path.of("src/com/chessgamepro");
+
+    @DisplayName("Engine core sources should not reference AWT, Swing or the GUI client")
+    @Test
+    void TestEngineCoreIsHeadless() throws IOException {
+
+        List<String> violations = new ArrayList<>();
+        int sourceFileCount = 0;
+
+        for(String corePackage : CORE_PACKAGES){
+            List<Path> sourceFiles;
+
+            try(Stream<Path> paths = Files.walk(SOURCE_DIRECTORY.resolve(corePackage))){
+                sourceFiles = paths.filter(path -> path.toString().endsWith(".java")).toList();
+            }
+
+            for(Path sourceFile : sourceFiles){
+                ++sourceFileCount;
+                String source = Files.readString(sourceFile);
+
+                for(String forbiddenReference : FORBIDDEN_REFERENCES){
+                    if(source.contains(forbiddenReference)){
+                        violations.add(sourceFile + " references " + forbiddenReference);
+                    }
+                }
+            }
+        }
+
+        int scannedFileCount = sourceFileCount;
+
+        assertAll("Headless engine core",
+                () -> assertTrue(scannedFileCount > 0, "Core source files should be found"),
+                () -> assertEquals(List.of(), violations, "Core sources should not reference the GUI")
+        );
+    }
+}
@@ -0,0 +1,86 @@
+package com.chessgamepro.Tests;
+
+import com.chessgamepro.BitBoard.BitBoard;
+import com.chessgamepro.ChessPieces.PieceColor;
+import com.chessgamepro.FenUtility.FenUtility;
+import com.chessgamepro.GameBoard.GameBoard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FenUtilityTest {
+
+    // Perft test positions, every fen field is used at least once
+    private static final String[] FENS = {
+            FenUtility.startFen,
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+            "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3",
+            "4k3/8/8/8/8/8/8/4K2R b K - 12 57"
+    };
+
+    @DisplayName("Fen should read into a BitBoard and be written back unchanged")
+    @Test
+    void TestFenRoundTrip(){
+
+        BitBoard bitBoard = new BitBoard();
+
+        for(String fen : FENS){
+            FenUtility.parseFen(fen, bitBoard);
+            BitBoard gameBoardBitBoard = new GameBoard(fen).getBitBoard();
+
+            assertAll("Round trip of " + fen,
+                    () -> assertEquals(fen, FenUtility.getFen(bitBoard), "Written fen should match the read one"),
+                    () -> assertEquals(bitBoard, gameBoardBitBoard, "GameBoard should read the same position"),
+                    () -> assertEquals(bitBoard.getHalfMoveClock(), gameBoardBitBoard.getHalfMoveClock(),
+                            "GameBoard should read the half move clock"),
+                    () -> assertEquals(bitBoard.getFullMoveNumber(), gameBoardBitBoard.getFullMoveNumber(),
+                            "GameBoard should read the full move number")
+            );
+        }
+    }
+
+    @DisplayName("Fen fields should be read, with defaults for missing fields and errors for malformed ones")
+    @Test
+    void TestFenFields(){
+
+        BitBoard bitBoard = new BitBoard();
+        FenUtility.parseFen(FENS[6], bitBoard);
+
+        BitBoard placementBitBoard = new BitBoard();
+        FenUtility.parseFen("4k3/8/8/8/8/8/8/4K2R", placementBitBoard);
+
+        BitBoard epdBitBoard = new BitBoard();
+        String operations = FenUtility.parseEpd(
+                "4k3/8/8/8/8/8/8/4K2R b K - bm Rh8; id \"mate 1\";", epdBitBoard);
+
+        assertAll("Fen fields",
+                () -> assertEquals(PieceColor.BLACK, bitBoard.getSideToMove(), "Black should be to move"),
+                () -> assertEquals(BitBoard.WHITE_KING_SIDE_CASTLE, bitBoard.getCastlingRights(), "Only White should castle"),
+                () -> assertEquals(12, bitBoard.getHalfMoveClock(), "Half move clock should be read"),
+                () -> assertEquals(57, bitBoard.getFullMoveNumber(), "Full move number should be read"),
+
+                () -> assertEquals("4k3/8/8/8/8/8/8/4K2R w - - 0 1", FenUtility.getFen(placementBitBoard),
+                        "Missing fields should take their defaults"),
+                () -> assertTrue(new GameBoard("4k3/8/8/8/8/8/8/4K2R").getBitBoard().getCastlingRights() != 0,
+                        "GameBoard should infer castling if the fen has no castling field"),
+
+                () -> assertEquals("bm Rh8; id \"mate 1\";", operations, "EPD operations should follow the position"),
+                () -> assertEquals(bitBoard, epdBitBoard, "EPD line should hold the same position"),
+                () -> assertEquals("4k3/8/8/8/8/8/8/4K2R b K - bm Rh8;", FenUtility.getEpd(epdBitBoard, "bm Rh8;"),
+                        "EPD line should be written with its operations"),
+
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> FenUtility.parseFen("4k3/8/8/8/8/8/8/4K2X w - - 0 1", bitBoard), "Unknown piece should fail"),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> FenUtility.parseFen("4k3/8/8/8/8/8/4K2R w - - 0 1", bitBoard), "Missing row should fail"),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> FenUtility.parseFen("4k3/8/8/8/8/8/8/4K2R x - - 0 1", bitBoard), "Unknown side should fail"),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> FenUtility.parseFen("4k3/8/8/8/8/8/8/4K2R w - e4 0 1", bitBoard), "Bad en-passant should fail")
+        );
+    }
+}
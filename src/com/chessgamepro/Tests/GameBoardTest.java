@@ -1,5 +1,6 @@
 package com.chessgamepro.Tests;
 
+import com.chessgamepro.BitBoard.BitBoard;
 import com.chessgamepro.ChessPieces.*;
 import com.chessgamepro.FenUtility.FenUtility;
 import com.chessgamepro.Game.Game;
@@ -307,4 +308,106 @@ class GameBoardTest {
 
         assertEquals(gameBoard, gameBoardCopy, "Queen-side castle should be undone");
     }
-}
\ No newline at end of file
+
+    @DisplayName("Undoing promotions and long move sequences should work")
+    @Test
+    void TestUndoPromotionAndManyMoves(){
+        GameBoard gameBoard = new GameBoard("1r2k3/P7/8/8/8/8/8/R3K3");
+        GameBoard gameBoardCopy = gameBoard.getCopy();
+
+        Move promotionCapture = new Move(
+                new Coordinate(6,0),
+                new Coordinate(7,1),
+                PieceType.PAWN,
+                gameBoardCopy.getPieceAtSquare(new Coordinate(7,1))
+        );
+        promotionCapture.setPromotedPieceType(PieceType.QUEEN);
+
+        gameBoardCopy.makeMove(promotionCapture);
+
+        assertTrue(gameBoardCopy.isTypeAtSquare(new Coordinate(7,1), PieceType.QUEEN),
+                "White Pawn promoted, type at square moved to should be Queen");
+
+        gameBoardCopy.undoMove();
+
+        assertAll("White promotion undone",
+                () -> assertEquals(gameBoard, gameBoardCopy, "White promotion should be undone"),
+                () -> assertTrue(gameBoardCopy.isTypeAtSquare(new Coordinate(6,0), PieceType.PAWN),
+                        "White promotion undone, type at square moved from should be Pawn"),
+                () -> assertTrue(gameBoardCopy.getCapturedBlackPieces().isEmpty(),
+                        "White promotion undone, no Black piece should be captured")
+        );
+
+        Move rookMove1 = new Move(new Coordinate(0,0), new Coordinate(1,0));
+        Move kingMove1 = new Move(new Coordinate(7,4), new Coordinate(7,3));
+        Move rookMove2 = new Move(new Coordinate(1,0), new Coordinate(1,7));
+        Move kingMove2 = new Move(new Coordinate(7,3), new Coordinate(7,4));
+        Move rookMove3 = new Move(new Coordinate(1,7), new Coordinate(0,7));
+
+        gameBoardCopy.makeMove(rookMove1);
+        gameBoardCopy.makeMove(kingMove1);
+        gameBoardCopy.makeMove(rookMove2);
+        gameBoardCopy.makeMove(kingMove2);
+        gameBoardCopy.makeMove(rookMove3);
+
+        for(int i = 0; i < 5; ++i){
+            gameBoardCopy.undoMove();
+        }
+
+        assertAll("Five moves undone",
+                () -> assertEquals(gameBoard, gameBoardCopy, "All five moves should be undone"),
+                () -> assertFalse(gameBoardCopy.getPieceAtSquare(new Coordinate(0,0)).getHasMoved(),
+                        "All five moves undone, White Rook should not have moved"),
+                () -> assertFalse(gameBoardCopy.getPieceAtSquare(new Coordinate(7,4)).getHasMoved(),
+                        "All five moves undone, Black King should not have moved")
+        );
+    }
+
+    @DisplayName("Move history should restore irreversible state at any depth")
+    @Test
+    void TestMoveHistoryIrreversibleState(){
+        GameBoard gameBoard = new GameBoard("r3k2r/8/8/8/8/8/4P3/R3K2R");
+
+        int startCastlingRights = gameBoard.getCastlingRights();
+
+        Move pawnTwoForward = new Move(
+                new Coordinate(1,4),
+                new Coordinate(3,4)
+        );
+        gameBoard.makeMove(pawnTwoForward);
+
+        assertEquals(20, gameBoard.getEnPassantSquare(),
+                "White Pawn moved two forward, en-passant square should be e3");
+
+        // Shuffle Rooks back and forth far beyond the initial capacity of the history
+        for(int i = 0; i < 100; ++i){
+            gameBoard.makeMove(new Move(new Coordinate(0,7), new Coordinate(1,7)));
+            gameBoard.makeMove(new Move(new Coordinate(7,0), new Coordinate(6,0)));
+            gameBoard.makeMove(new Move(new Coordinate(1,7), new Coordinate(0,7)));
+            gameBoard.makeMove(new Move(new Coordinate(6,0), new Coordinate(7,0)));
+        }
+
+        assertAll("Rooks moved",
+                () -> assertEquals(401, gameBoard.getHistorySize(),
+                        "401 moves made, history should hold all of them"),
+                () -> assertEquals(BitBoard.WHITE_QUEEN_SIDE_CASTLE | BitBoard.BLACK_KING_SIDE_CASTLE,
+                        gameBoard.getCastlingRights(),
+                        "Rooks on h1 and a8 moved, their castling rights should be lost"),
+                () -> assertEquals(400, gameBoard.getHalfMoveClock(),
+                        "400 moves without Pawn move or capture, half move clock should be 400")
+        );
+
+        for(int i = 0; i < 400; ++i){
+            gameBoard.undoMove();
+        }
+
+        assertAll("Rook moves undone",
+                () -> assertEquals(20, gameBoard.getEnPassantSquare(),
+                        "Rook moves undone, en-passant square should be e3 again"),
+                () -> assertEquals(startCastlingRights, gameBoard.getCastlingRights(),
+                        "Rook moves undone, all castling rights should be back"),
+                () -> assertEquals(0, gameBoard.getHalfMoveClock(),
+                        "Rook moves undone, half move clock should be 0")
+        );
+    }
+}
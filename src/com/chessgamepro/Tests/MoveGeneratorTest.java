@@ -0,0 +1,132 @@
+package com.chessgamepro.Tests;
+
+import com.chessgamepro.BitBoard.BitBoard;
+import com.chessgamepro.BitBoard.MoveGenerator;
+import com.chessgamepro.FenUtility.FenUtility;
+import com.chessgamepro.GameBoard.GameBoard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MoveGeneratorTest {
+
+    public static long countPositions(BitBoard bitBoard, int depth, int[][] moveBuffers){
+
+        int moveCount = MoveGenerator.generateLegalMoves(bitBoard, bitBoard.getSideToMove(), moveBuffers[depth]);
+
+        if(depth == 1){
+            return moveCount;
+        }
+
+        long positionsCount = 0;
+
+        for(int i = 0; i < moveCount; ++i){
+            MoveGenerator.makeMove(bitBoard, moveBuffers[depth][i]);
+            positionsCount += countPositions(bitBoard, depth - 1, moveBuffers);
+            bitBoard.undoMove();
+        }
+
+        return positionsCount;
+    }
+
+    // Helper method that counts positions from a fen with White to move
+    private static long countPositions(String fen, int depth){
+        BitBoard bitBoard = new BitBoard(new GameBoard(fen).getBitBoard());
+
+        return countPositions(bitBoard, depth, new int[depth + 1][MoveGenerator.MAX_MOVES]);
+    }
+
+    @Test
+    @DisplayName("Legal move generation should align with what other programmers got for 'start' " +
+            "and 'position 2' fen")
+    void TestLegalMoveGeneration(){
+
+        assertAll("Legal move generation from typical test positions should work",
+                () -> assertEquals(197281, countPositions(FenUtility.startFen, 4),
+                        "Expecting to visit 197281 positions from start with depth of 4"),
+                () -> assertEquals(4865609, countPositions(FenUtility.startFen, 5),
+                        "Expecting to visit 4865609 positions from start with depth of 5"),
+                () -> assertEquals(4085603, countPositions(FenUtility.position2, 4),
+                        "Expecting to visit 4085603 positions from 'position 2' with depth of 4")
+        );
+    }
+
+    @Test
+    @DisplayName("Legal move generation should handle pins, en-passant discovered checks and promotions")
+    void TestLegalMoveGenerationEdgeCases(){
+
+        assertAll("Legal move generation from positions full of edge cases should work",
+                () -> assertEquals(674624, countPositions("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8", 5),
+                        "Expecting to visit 674624 positions from 'position 3' with depth of 5"),
+                () -> assertEquals(422333,
+                        countPositions("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1", 4),
+                        "Expecting to visit 422333 positions from 'position 4' with depth of 4"),
+                () -> assertEquals(2103487,
+                        countPositions("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R", 4),
+                        "Expecting to visit 2103487 positions from 'position 5' with depth of 4")
+        );
+    }
+
+    // Helper method that counts positions where generated captures differ from
+    // the captures, en-passant captures and promotions among all legal moves
+    private static int countCaptureMismatches(BitBoard bitBoard, int depth, int[][] moveBuffers, int[] captures){
+
+        int moveCount = MoveGenerator.generateLegalMoves(bitBoard, bitBoard.getSideToMove(), moveBuffers[depth]);
+        int captureCount = MoveGenerator.generateLegalCaptures(bitBoard, bitBoard.getSideToMove(), captures);
+
+        int expectedCaptureCount = 0;
+        for(int i = 0; i < moveCount; ++i){
+            int move = moveBuffers[depth][i];
+
+            if(MoveGenerator.isCapture(move) || MoveGenerator.isPromotion(move)){
+                ++expectedCaptureCount;
+            }
+        }
+
+        int mismatches = expectedCaptureCount == captureCount ? 0 : 1;
+
+        for(int i = 0; i < captureCount; ++i){
+            if(!MoveGenerator.isCapture(captures[i]) && !MoveGenerator.isPromotion(captures[i])){
+                mismatches = 1;
+            }
+        }
+
+        if(depth == 0){
+            return mismatches;
+        }
+
+        for(int i = 0; i < moveCount; ++i){
+            MoveGenerator.makeMove(bitBoard, moveBuffers[depth][i]);
+            mismatches += countCaptureMismatches(bitBoard, depth - 1, moveBuffers, captures);
+            bitBoard.undoMove();
+        }
+
+        return mismatches;
+    }
+
+    // Helper method that counts capture mismatches from a fen
+    private static int countCaptureMismatches(String fen, int depth){
+        BitBoard bitBoard = new BitBoard();
+        FenUtility.parseFen(fen, bitBoard);
+
+        return countCaptureMismatches(bitBoard, depth, new int[depth + 1][MoveGenerator.MAX_MOVES],
+                new int[MoveGenerator.MAX_MOVES]);
+    }
+
+    @Test
+    @DisplayName("Captures only generation should give exactly the legal captures and promotions")
+    void TestLegalCaptureGeneration(){
+
+        assertAll("Captures only generation should match the legal moves",
+                () -> assertEquals(0, countCaptureMismatches(FenUtility.position2, 3),
+                        "Expecting no mismatches from 'position 2' with depth of 3"),
+                () -> assertEquals(0, countCaptureMismatches("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1", 4),
+                        "Expecting no mismatches from 'position 3' with depth of 4"),
+                () -> assertEquals(0, countCaptureMismatches(
+                        "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1", 3),
+                        "Expecting no mismatches from 'position 4' with depth of 3")
+        );
+    }
+}
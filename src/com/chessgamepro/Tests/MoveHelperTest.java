@@ -21,13 +21,13 @@ class MoveHelperTest {
             return 1;
         }
 
-        List<Move> moveList = MoveHelper.getColorMoves(color, gameBoard, true,false);
+        List<Move> moveList = MoveHelper.getColorMoves(color, gameBoard, true, true);
         int positionsCount = 0;
 
         for(Move move : moveList){
             gameBoard.makeMove(move);
             //gameBoard.printToScreen();
-            positionsCount += generateMovesIteratively(depth-1, color.getOppositeColor(), gameBoard.getCopy());
+            positionsCount += generateMovesIteratively(depth-1, color.getOppositeColor(), gameBoard);
             gameBoard.undoMove();
         }
 
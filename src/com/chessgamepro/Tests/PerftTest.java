@@ -0,0 +1,64 @@
+package com.chessgamepro.Tests;
+
+import com.chessgamepro.BitBoard.BitBoard;
+import com.chessgamepro.FenUtility.FenUtility;
+import com.chessgamepro.Perft.Perft;
+import com.chessgamepro.Perft.PerftResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerftTest {
+
+    // Helper method that counts a fen to a depth with the given settings
+    private static PerftResult runPerft(String fen, int depth, Perft perft){
+
+        BitBoard bitBoard = new BitBoard();
+        FenUtility.parseFen(fen, bitBoard);
+
+        return perft.run(bitBoard, depth);
+    }
+
+    @DisplayName("Perft should match the known node counts of test positions")
+    @Test
+    void TestPerftNodeCounts(){
+
+        Perft perft = new Perft(Perft.DEFAULT_THREAD_COUNT, true, Perft.NO_HASH);
+
+        assertAll("Perft node counts",
+                () -> assertEquals(197281, runPerft(FenUtility.startFen, 4, perft).nodeCount(),
+                        "Start position at depth 4"),
+                () -> assertEquals(97862, runPerft(FenUtility.position2, 3, perft).nodeCount(),
+                        "Position 2 at depth 3"),
+                () -> assertEquals(43238, runPerft("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1", 4, perft).nodeCount(),
+                        "Position 3 at depth 4"),
+                () -> assertEquals(9467, runPerft("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1", 3, perft).nodeCount(),
+                        "Position 4 at depth 3"),
+                () -> assertEquals(62379, runPerft("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8", 3, perft).nodeCount(),
+                        "Position 5 at depth 3")
+        );
+    }
+
+    @DisplayName("Perft settings should not change the counts, and divide should add up to the total")
+    @Test
+    void TestPerftSettings(){
+
+        PerftResult bulkResult = runPerft(FenUtility.position2, 3, new Perft(1, true, Perft.NO_HASH));
+        PerftResult makeMoveResult = runPerft(FenUtility.position2, 3, new Perft(2, false, Perft.NO_HASH));
+        PerftResult hashResult = runPerft(FenUtility.position2, 4, new Perft(4, true, 16));
+
+        assertAll("Perft settings",
+                () -> assertEquals(bulkResult.nodeCount(), makeMoveResult.nodeCount(),
+                        "Making every leaf move should count the same nodes"),
+                () -> assertEquals(4085603, hashResult.nodeCount(), "Hashed counts should match position 2 at depth 4"),
+                () -> assertEquals(48, bulkResult.rootMoves().length, "Position 2 should have 48 root moves"),
+                () -> assertEquals(bulkResult.nodeCount(), Arrays.stream(bulkResult.rootNodeCounts()).sum(),
+                        "Divide counts should add up to the total"),
+                () -> assertTrue(bulkResult.getDivide().contains("e2a6: "), "Divide should list every root move"),
+                () -> assertTrue(bulkResult.getDivide().contains("Nodes searched: 97862"), "Divide should end with the total")
+        );
+    }
+}
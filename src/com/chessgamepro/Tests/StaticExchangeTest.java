@@ -0,0 +1,63 @@
+package com.chessgamepro.Tests;
+
+import com.chessgamepro.BitBoard.BitBoard;
+import com.chessgamepro.BitBoard.MoveGenerator;
+import com.chessgamepro.ChessAI.ChessAI;
+import com.chessgamepro.ChessAI.StaticExchange;
+import com.chessgamepro.FenUtility.FenUtility;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticExchangeTest {
+
+    // Helper method that finds a legal move of a fen written in coordinate notation
+    private static int getMove(BitBoard bitBoard, String fen, String moveString){
+
+        FenUtility.parseFen(fen, bitBoard);
+
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int moveCount = MoveGenerator.generateLegalMoves(bitBoard, bitBoard.getSideToMove(), moves);
+
+        for(int i = 0; i < moveCount; ++i){
+            if(MoveGenerator.toString(moves[i]).equals(moveString)){
+                return moves[i];
+            }
+        }
+        throw new IllegalArgumentException("No legal move " + moveString + " in " + fen);
+    }
+
+    // Helper method that checks if a move of a fen wins at least threshold
+    private static boolean isAtLeast(String fen, String moveString, int threshold){
+
+        BitBoard bitBoard = new BitBoard();
+        int move = getMove(bitBoard, fen, moveString);
+
+        return StaticExchange.isAtLeast(bitBoard, move, threshold);
+    }
+
+    @DisplayName("Static exchange evaluation should find the material won by a capture")
+    @Test
+    void TestStaticExchange(){
+
+        // Pawn d5 defended by Pawn e6
+        String defendedPawn = "4k3/8/4p3/3p4/8/8/8/3QK3 w - - 0 1";
+        // Rook e5 attacked by Rooks e1 and e2 behind each other, defended once
+        String xRay = "4k3/4r3/8/4n3/8/8/4R3/4RK2 w - - 0 1";
+
+        assertAll("Static exchange evaluation",
+                () -> assertFalse(isAtLeast(defendedPawn, "d1d5", 0), "Queen takes defended Pawn loses material"),
+                () -> assertTrue(isAtLeast("4k3/8/8/3p4/8/8/8/3QK3 w - - 0 1", "d1d5", ChessAI.PAWN_VALUE),
+                        "Queen takes undefended Pawn wins a Pawn"),
+                () -> assertTrue(isAtLeast(xRay, "e2e5", ChessAI.KNIGHT_VALUE),
+                        "Rook behind the capturing Rook should join the exchange"),
+                () -> assertFalse(isAtLeast(xRay, "e2e5", ChessAI.KNIGHT_VALUE + 1),
+                        "Exchange should win exactly the Knight"),
+                () -> assertTrue(isAtLeast("4k3/1P6/8/8/8/8/8/4K3 w - - 0 1", "b7b8q", 0),
+                        "Undefended promotion should not lose material"),
+                () -> assertFalse(isAtLeast("1r2k3/P7/8/8/8/8/8/4K3 w - - 0 1", "a7a8q", 0),
+                        "Promotion to a defended square should lose the Queen")
+        );
+    }
+}
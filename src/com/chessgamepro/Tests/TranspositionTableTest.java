@@ -0,0 +1,79 @@
+package com.chessgamepro.Tests;
+
+import com.chessgamepro.ChessAI.ReplacementPolicy;
+import com.chessgamepro.ChessAI.TranspositionTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @DisplayName("Stored entries should be found and unpacked, other keys should miss")
+    @Test
+    void TestStoreAndProbe(){
+
+        TranspositionTable transpositionTable = new TranspositionTable(1, ReplacementPolicy.ALWAYS_REPLACE);
+        long key = 0x123456789ABCDEF0L;
+
+        transpositionTable.store(key, 5, TranspositionTable.LOWER_BOUND, -250, 1234);
+        long entry = transpositionTable.probe(key);
+
+        assertAll("Stored entry",
+                () -> assertEquals(65536, transpositionTable.getEntryCount(),
+                        "1 MB of 16 byte entries should hold 65536 entries"),
+                () -> assertNotEquals(TranspositionTable.NO_ENTRY, entry,
+                        "Stored key should be found"),
+                () -> assertEquals(5, TranspositionTable.getDepth(entry), "Depth should be 5"),
+                () -> assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.getBound(entry),
+                        "Bound should be a lower bound"),
+                () -> assertEquals(-250, TranspositionTable.getScore(entry), "Score should be -250"),
+                () -> assertEquals(1234, TranspositionTable.getMove(entry), "Move should be 1234")
+        );
+
+        // Same index, different key
+        long otherKey = key ^ (1L << 40);
+
+        assertAll("Other key",
+                () -> assertEquals(TranspositionTable.NO_ENTRY, transpositionTable.probe(otherKey),
+                        "Key sharing an index with a stored key should miss"),
+                () -> assertEquals(2, transpositionTable.getProbeCount(), "Two probes should be counted"),
+                () -> assertEquals(1, transpositionTable.getHitCount(), "One hit should be counted")
+        );
+    }
+
+    @DisplayName("Replacement policies should decide if an entry is overwritten")
+    @Test
+    void TestReplacementPolicy(){
+
+        long key = 42L;
+        long otherKey = key ^ (1L << 40);
+
+        TranspositionTable depthPreferredTable =
+                new TranspositionTable(1, ReplacementPolicy.DEPTH_PREFERRED);
+
+        depthPreferredTable.store(key, 6, TranspositionTable.EXACT, 10, 0);
+        depthPreferredTable.store(otherKey, 2, TranspositionTable.EXACT, 20, 0);
+
+        assertAll("Depth preferred",
+                () -> assertNotEquals(TranspositionTable.NO_ENTRY, depthPreferredTable.probe(key),
+                        "Deeper entry should not be overwritten by a shallower one"),
+                () -> assertEquals(TranspositionTable.NO_ENTRY, depthPreferredTable.probe(otherKey),
+                        "Shallower entry should not be stored")
+        );
+
+        TranspositionTable agedTable =
+                new TranspositionTable(1, ReplacementPolicy.AGED_DEPTH_PREFERRED);
+
+        agedTable.store(key, 6, TranspositionTable.EXACT, 10, 0);
+        agedTable.newSearch();
+        agedTable.store(otherKey, 2, TranspositionTable.EXACT, 20, 0);
+
+        assertAll("Aged depth preferred",
+                () -> assertEquals(20, TranspositionTable.getScore(agedTable.probe(otherKey)),
+                        "Entry of an earlier search should be overwritten"),
+                () -> assertEquals(1, agedTable.getOverwriteCount(),
+                        "One overwrite of another position should be counted")
+        );
+    }
+}
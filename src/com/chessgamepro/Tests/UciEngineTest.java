@@ -0,0 +1,91 @@
+package com.chessgamepro.Tests;
+
+import com.chessgamepro.Uci.UciEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UciEngineTest {
+
+    // Helper method that waits until the engine has written a best move
+    private static String waitForBestMove(ByteArrayOutputStream outputBytes) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 10_000;
+
+        while(!outputBytes.toString().contains("bestmove") && System.currentTimeMillis() < deadline){
+            Thread.sleep(10);
+        }
+        return outputBytes.toString();
+    }
+
+    @DisplayName("UCI engine should identify itself, set up positions with moves and answer 'go'")
+    @Test
+    void TestUciSession() throws InterruptedException {
+
+        ByteArrayOutputStream outputBytes = new ByteArrayOutputStream();
+        UciEngine uciEngine = new UciEngine(new ByteArrayInputStream(new byte[0]), new PrintStream(outputBytes, true));
+
+        uciEngine.executeCommand("uci");
+        uciEngine.executeCommand("isready");
+
+        // After 1. f3 e5 2. g4 Black mates with Qh4
+        uciEngine.executeCommand("position startpos moves f2f3 e7e5 g2g4");
+        uciEngine.executeCommand("go depth 2");
+
+        String output = waitForBestMove(outputBytes);
+
+        assertAll("UCI session",
+                () -> assertTrue(output.contains("id name " + UciEngine.ENGINE_NAME), "Engine should send its name"),
+                () -> assertTrue(output.contains("uciok"), "Engine should answer 'uci' with 'uciok'"),
+                () -> assertTrue(output.contains("readyok"), "Engine should answer 'isready' with 'readyok'"),
+                () -> assertTrue(output.contains("info depth 1 "), "Engine should report every iteration"),
+                () -> assertTrue(output.contains("score mate 1"), "Mate should be reported from the side of Black"),
+                () -> assertTrue(output.contains("bestmove d8h4"), "Black should play the mate")
+        );
+
+        assertFalse(uciEngine.executeCommand("quit"), "'quit' should end the command loop");
+    }
+
+    @DisplayName("UCI engine should report the length of a mate, not the depth it was found at")
+    @Test
+    void TestUciMateLength() throws InterruptedException {
+
+        ByteArrayOutputStream outputBytes = new ByteArrayOutputStream();
+        UciEngine uciEngine = new UciEngine(new ByteArrayInputStream(new byte[0]), new PrintStream(outputBytes, true));
+
+        // 1. Rxd8+ Bf8 2. Rxf8# is found by the first iteration, the mate is resolved by quiescence
+        uciEngine.executeCommand("position fen 3r3k/6pp/8/2b5/8/8/8/3RK3 w - - 0 1");
+        uciEngine.executeCommand("go depth 1");
+
+        String output = waitForBestMove(outputBytes);
+
+        assertAll("Mate length",
+                () -> assertTrue(output.contains("info depth 1 score mate 2 "), "Mate should take 2 moves"),
+                () -> assertTrue(output.contains("bestmove d1d8"), "White should start the mate")
+        );
+    }
+
+    @DisplayName("UCI engine should read side to move, castling and en-passant from a fen")
+    @Test
+    void TestUciPositionFen() throws InterruptedException {
+
+        ByteArrayOutputStream outputBytes = new ByteArrayOutputStream();
+        UciEngine uciEngine = new UciEngine(new ByteArrayInputStream(new byte[0]), new PrintStream(outputBytes, true));
+
+        // Capturing en-passant is the only legal move that does not lose the Pawn, and only castling moves the King
+        uciEngine.executeCommand("position fen 4k3/8/8/3pP3/8/8/8/4K2R w K d6 0 1 moves e5d6 e8d7 e1g1");
+        uciEngine.executeCommand("go depth 1");
+
+        String output = waitForBestMove(outputBytes);
+
+        assertAll("Position from fen",
+                () -> assertFalse(output.contains("illegal move"), "En-passant and castling should be legal"),
+                () -> assertTrue(output.contains("bestmove"), "Engine should answer 'go' with a best move")
+        );
+    }
+}
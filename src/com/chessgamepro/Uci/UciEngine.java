@@ -0,0 +1,417 @@
+package com.chessgamepro.Uci;
+
+import com.chessgamepro.BitBoard.BitBoard;
+import com.chessgamepro.BitBoard.MagicTables;
+import com.chessgamepro.BitBoard.MoveGenerator;
+import com.chessgamepro.ChessAI.ChessAI;
+import com.chessgamepro.ChessAI.ReplacementPolicy;
+import com.chessgamepro.ChessAI.SearchStatistics;
+import com.chessgamepro.ChessAI.TimeManager;
+import com.chessgamepro.ChessAI.TranspositionTable;
+import com.chessgamepro.ChessPieces.PieceColor;
+import com.chessgamepro.FenUtility.FenUtility;
+import com.chessgamepro.Perft.Perft;
+import com.chessgamepro.Perft.PerftResult;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * Class that lets the engine be driven by any program speaking the
+ * Universal Chess Interface. Commands are read line by line from the
+ * input, searches run on their own thread so that 'stop' and 'isready'
+ * are answered while searching.
+ */
+public class UciEngine {
+
+    public static final String ENGINE_NAME = "ChessGamePro";
+    public static final String ENGINE_AUTHOR = "dujo09";
+
+    // Limits of the options set with 'setoption'
+    public static final int MIN_HASH_MEGABYTES = 1;
+    public static final int MAX_HASH_MEGABYTES = 1024;
+    public static final int MAX_THREADS = ChessAI.MAX_THREAD_COUNT;
+
+    // Used for 'go infinite' and 'go depth' or 'go nodes' without a clock
+    private static final long INFINITE_MILLIS = Long.MAX_VALUE;
+
+    private final BufferedReader input;
+    private final PrintStream output;
+
+    private final BitBoard bitBoard;
+    private TranspositionTable transpositionTable;
+    private int threadCount;
+
+    // Switches of the pruning of search, turned off to measure what each one is worth
+    private boolean isLateMoveReductionsEnabled;
+    private boolean isFutilityPruningEnabled;
+    private boolean isReverseFutilityPruningEnabled;
+
+    private ChessAI chessAI;
+    private Thread searchThread;
+
+    /**
+     * Constructor for UciEngine
+     *
+     * @param input the stream commands are read from
+     * @param output the stream answers are written to
+     */
+    public UciEngine(InputStream input, PrintStream output){
+        this.input = new BufferedReader(new InputStreamReader(input));
+        this.output = output;
+
+        bitBoard = new BitBoard();
+        FenUtility.parseFen(FenUtility.startFen, bitBoard);
+        transpositionTable = new TranspositionTable(
+                TranspositionTable.DEFAULT_SIZE_IN_MEGABYTES,
+                ReplacementPolicy.AGED_DEPTH_PREFERRED
+        );
+        threadCount = 1;
+        isLateMoveReductionsEnabled = true;
+        isFutilityPruningEnabled = true;
+        isReverseFutilityPruningEnabled = true;
+    }
+
+    /**
+     * Method that reads and executes commands until 'quit' or the end of input
+     */
+    public void run(){
+
+        try{
+            String line;
+
+            while((line = input.readLine()) != null){
+                if(!executeCommand(line.trim())){
+                    break;
+                }
+            }
+
+        }catch(IOException e){
+            throw new RuntimeException(e);
+        }
+
+        stopSearch();
+    }
+
+    /**
+     * Method that executes one command
+     *
+     * @param command the command line
+     * @return false if the command was 'quit', true otherwise
+     */
+    public boolean executeCommand(String command){
+
+        String[] tokens = command.split("\\s+");
+
+        switch (tokens[0]){
+            case "uci" -> {
+                // Attack tables are built now, not out of the time of the first search
+                MagicTables.load();
+
+                output.println("id name " + ENGINE_NAME);
+                output.println("id author " + ENGINE_AUTHOR);
+                output.println("option name Hash type spin default " + TranspositionTable.DEFAULT_SIZE_IN_MEGABYTES +
+                        " min " + MIN_HASH_MEGABYTES + " max " + MAX_HASH_MEGABYTES);
+                output.println("option name Threads type spin default 1 min 1 max " + MAX_THREADS);
+                output.println("option name LateMoveReductions type check default true");
+                output.println("option name FutilityPruning type check default true");
+                output.println("option name ReverseFutilityPruning type check default true");
+                output.println("uciok");
+            }
+            case "isready" -> {
+                MagicTables.load();
+                output.println("readyok");
+            }
+            case "ucinewgame" -> {
+                stopSearch();
+                transpositionTable.clear();
+            }
+            case "setoption" -> {
+                stopSearch();
+                setOption(tokens);
+            }
+            case "position" -> {
+                stopSearch();
+                setPosition(tokens);
+            }
+            case "go" -> {
+                stopSearch();
+
+                if(getTokenIndex(tokens, "perft") != -1){
+                    runPerft(tokens);
+                }else{
+                    startSearch(tokens);
+                }
+            }
+            case "stop" -> stopSearch();
+            case "quit" -> {
+                return false;
+            }
+            default -> {
+                // Unknown commands are ignored as the protocol requires
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Helper method for 'executeCommand' that handles
+     * 'setoption name [name] value [value]'
+     */
+    private void setOption(String[] tokens){
+
+        String name = getTokenAfter(tokens, "name");
+        String value = getTokenAfter(tokens, "value");
+
+        if(name == null || value == null){
+            return;
+        }
+
+        try{
+            if(name.equalsIgnoreCase("Hash")){
+                int sizeInMegabytes = Math.max(MIN_HASH_MEGABYTES,
+                        Math.min(Integer.parseInt(value), MAX_HASH_MEGABYTES));
+
+                transpositionTable = new TranspositionTable(sizeInMegabytes, ReplacementPolicy.AGED_DEPTH_PREFERRED);
+
+            }else if(name.equalsIgnoreCase("Threads")){
+                threadCount = Math.max(1, Math.min(Integer.parseInt(value), MAX_THREADS));
+
+            }else if(name.equalsIgnoreCase("LateMoveReductions")){
+                isLateMoveReductionsEnabled = Boolean.parseBoolean(value);
+
+            }else if(name.equalsIgnoreCase("FutilityPruning")){
+                isFutilityPruningEnabled = Boolean.parseBoolean(value);
+
+            }else if(name.equalsIgnoreCase("ReverseFutilityPruning")){
+                isReverseFutilityPruningEnabled = Boolean.parseBoolean(value);
+            }
+
+        }catch(NumberFormatException e){
+            output.println("info string invalid value " + value + " for option " + name);
+        }
+    }
+
+    /**
+     * Helper method for 'executeCommand' that handles
+     * 'position [fen [fen] | startpos] moves [moves]'
+     */
+    private void setPosition(String[] tokens){
+
+        int movesIndex = getTokenIndex(tokens, "moves");
+        int fenEnd = movesIndex == -1 ? tokens.length : movesIndex;
+
+        try{
+            if(tokens.length > 1 && tokens[1].equals("fen")){
+                FenUtility.parseFen(String.join(" ", Arrays.copyOfRange(tokens, 2, fenEnd)), bitBoard);
+            }else{
+                FenUtility.parseFen(FenUtility.startFen, bitBoard);
+            }
+
+        }catch(IllegalArgumentException e){
+            output.println("info string " + e.getMessage());
+            FenUtility.parseFen(FenUtility.startFen, bitBoard);
+            return;
+        }
+
+        if(movesIndex == -1){
+            return;
+        }
+
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        for(int i = movesIndex + 1; i < tokens.length; ++i){
+            int move = findMove(moves, tokens[i]);
+
+            if(move == MoveGenerator.NO_MOVE){
+                output.println("info string illegal move " + tokens[i]);
+                return;
+            }
+
+            MoveGenerator.makeMove(bitBoard, move);
+        }
+    }
+
+    /**
+     * Helper method for 'setPosition' that finds the legal move written
+     * in coordinate notation
+     *
+     * @param moves the buffer legal moves are generated into
+     * @param moveString the move, for example "e2e4" or "e7e8q"
+     * @return the packed move, NO_MOVE if there is no such legal move
+     */
+    private int findMove(int[] moves, String moveString){
+
+        int moveCount = MoveGenerator.generateLegalMoves(bitBoard, bitBoard.getSideToMove(), moves);
+
+        for(int i = 0; i < moveCount; ++i){
+            if(MoveGenerator.toString(moves[i]).equals(moveString)){
+                return moves[i];
+            }
+        }
+        return MoveGenerator.NO_MOVE;
+    }
+
+    /**
+     * Helper method for 'executeCommand' that handles 'go perft [depth]',
+     * writing the node count of every root move
+     */
+    private void runPerft(String[] tokens){
+
+        int depth = (int) getLongAfter(tokens, "perft", 1);
+
+        if(depth < 1){
+            output.println("info string perft depth must be at least 1");
+            return;
+        }
+
+        PerftResult result = new Perft(threadCount, true, Perft.NO_HASH).run(bitBoard, depth);
+
+        output.println(result.getDivide());
+    }
+
+    /**
+     * Helper method for 'executeCommand' that handles 'go' with its limits
+     * and starts the search on its own thread
+     */
+    private void startSearch(String[] tokens){
+
+        boolean isWhite = bitBoard.getSideToMove() == PieceColor.WHITE;
+
+        long remainingMillis = getLongAfter(tokens, isWhite ? "wtime" : "btime", -1);
+        long incrementMillis = getLongAfter(tokens, isWhite ? "winc" : "binc", 0);
+        long moveTimeMillis = getLongAfter(tokens, "movetime", -1);
+        boolean isInfinite = getTokenIndex(tokens, "infinite") != -1;
+
+        TimeManager timeManager;
+
+        if(moveTimeMillis >= 0 && !isInfinite){
+            timeManager = new TimeManager(moveTimeMillis);
+        }else if(remainingMillis >= 0 && !isInfinite){
+            timeManager = new TimeManager(remainingMillis, incrementMillis);
+        }else{
+            timeManager = new TimeManager(INFINITE_MILLIS);
+        }
+
+        ChessAI searchingAI = new ChessAI(timeManager, transpositionTable);
+        searchingAI.setMaxDepth((int) getLongAfter(tokens, "depth", ChessAI.MAX_SEARCH_DEPTH));
+        searchingAI.setNodeLimit(getLongAfter(tokens, "nodes", Long.MAX_VALUE));
+        searchingAI.setSearchListener(statistics -> printInfo(statistics, searchingAI.getNodeCount(), isWhite));
+        searchingAI.setLateMoveReductionsEnabled(isLateMoveReductionsEnabled);
+        searchingAI.setFutilityPruningEnabled(isFutilityPruningEnabled);
+        searchingAI.setReverseFutilityPruningEnabled(isReverseFutilityPruningEnabled);
+        searchingAI.setThreadCount(threadCount);
+
+        // The search gets its own board, 'position' may refill this one while searching
+        BitBoard searchedBitBoard = new BitBoard(bitBoard);
+
+        chessAI = searchingAI;
+        searchThread = new Thread(() -> {
+            int bestMove = searchingAI.search(searchedBitBoard);
+
+            // An infinite search may not answer before it is told to stop, even if it found a mate
+            while(isInfinite && !timeManager.isStopped()){
+                try{
+                    Thread.sleep(1);
+                }catch(InterruptedException e){
+                    break;
+                }
+            }
+
+            output.println("info string " + searchingAI.getStatistics());
+            output.println("bestmove " + (bestMove == MoveGenerator.NO_MOVE ?
+                    "0000" : MoveGenerator.toString(bestMove)));
+        }, "UCI search");
+
+        searchThread.start();
+    }
+
+    /**
+     * Helper method that stops the running search and waits until it
+     * has written its best move
+     */
+    private void stopSearch(){
+
+        if(searchThread == null){
+            return;
+        }
+
+        chessAI.stopSearch();
+
+        try{
+            searchThread.join();
+        }catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+
+        searchThread = null;
+        chessAI = null;
+    }
+
+    /**
+     * Helper method used as the search listener, writes an 'info' line
+     * for every completed iteration. Scores are written from the side of
+     * the searching color as the protocol requires. Nodes and nps are
+     * totals of all search threads, not only of the main one.
+     *
+     * @param statistics the statistics of search
+     * @param nodeCount the number of nodes searched so far by all threads
+     * @param isWhite true if the search is for White, false otherwise
+     */
+    private void printInfo(SearchStatistics statistics, long nodeCount, boolean isWhite){
+
+        int depth = statistics.getCompletedDepth();
+        int score = statistics.getScore();
+        long elapsedMillis = statistics.getElapsedMillis();
+
+        // Mate is given in moves, negative if the searching color is mated
+        String scoreString;
+        if(ChessAI.isMateScore(score)){
+            int mateInMoves = (ChessAI.getMatePlies(score) + 1) / 2;
+            scoreString = "mate " + ((score > 0) == isWhite ? mateInMoves : -mateInMoves);
+        }else{
+            scoreString = "cp " + (isWhite ? score : -score);
+        }
+
+        output.println("info depth " + depth + " score " + scoreString +
+                " nodes " + nodeCount + " nps " + nodeCount * 1000 / Math.max(1, elapsedMillis) +
+                " hashfull " + transpositionTable.getUsagePermille() + " time " + elapsedMillis +
+                " pv " + statistics.getPrincipalVariation());
+    }
+
+    // Helper method that gets the index of a token, -1 if it is missing
+    private static int getTokenIndex(String[] tokens, String token){
+
+        for(int i = 0; i < tokens.length; ++i){
+            if(tokens[i].equals(token)){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Helper method that gets the token following a given one, null if there is none
+    private static String getTokenAfter(String[] tokens, String token){
+
+        int index = getTokenIndex(tokens, token);
+
+        return index == -1 || index + 1 >= tokens.length ? null : tokens[index + 1];
+    }
+
+    // Helper method that gets the number following a given token, the default value if there is none
+    private static long getLongAfter(String[] tokens, String token, long defaultValue){
+
+        String value = getTokenAfter(tokens, token);
+
+        try{
+            return value == null ? defaultValue : Long.parseLong(value);
+        }catch(NumberFormatException e){
+            return defaultValue;
+        }
+    }
+}